@@ -0,0 +1,76 @@
+// k6 load test for the application endpoints, used to compare platform and virtual threads.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 loadtest/applications.js
+//
+// Target the app container directly (port 8080), not nginx, which rate limits to 10 r/s per IP.
+// Start the stack with RATE_LIMIT_GLOBAL raised so the app's own limiter stays out of the way.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const RATE = parseInt(__ENV.RATE || '200', 10);
+const DURATION = __ENV.DURATION || '2m';
+
+export const options = {
+    scenarios: {
+        mixed: {
+            executor: 'constant-arrival-rate',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 100,
+            maxVUs: 1000,
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        'http_req_duration{name:list}': ['p(99)<500'],
+        'http_req_duration{name:get}': ['p(99)<300'],
+        'http_req_duration{name:create}': ['p(99)<500'],
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const email = `loadtest-${Date.now()}@example.com`;
+    const credentials = { name: 'Load Test', email, password: 'password123' };
+    const registered = http.post(`${BASE_URL}/api/auth/register`, JSON.stringify(credentials), {
+        headers: { 'Content-Type': 'application/json' },
+    });
+    check(registered, { 'registered': (r) => r.status === 201 });
+    const token = registered.json('token');
+    const headers = { 'Content-Type': 'application/json', Authorization: `Bearer ${token}` };
+
+    const ids = [];
+    for (let i = 0; i < 50; i++) {
+        const created = http.post(`${BASE_URL}/api/applications`, JSON.stringify(application(i)), { headers });
+        ids.push(created.json('id'));
+    }
+    return { headers, ids };
+}
+
+export default function (data) {
+    const roll = Math.random();
+    if (roll < 0.6) {
+        const res = http.get(`${BASE_URL}/api/applications?size=20`, { headers: data.headers, tags: { name: 'list' } });
+        check(res, { 'list 200': (r) => r.status === 200 });
+    } else if (roll < 0.9) {
+        const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+        const res = http.get(`${BASE_URL}/api/applications/${id}`, { headers: data.headers, tags: { name: 'get' } });
+        check(res, { 'get 200': (r) => r.status === 200 });
+    } else {
+        const res = http.post(`${BASE_URL}/api/applications`, JSON.stringify(application(__ITER)),
+            { headers: data.headers, tags: { name: 'create' } });
+        check(res, { 'create 201': (r) => r.status === 201 });
+    }
+}
+
+function application(i) {
+    return {
+        companyName: `Company ${i % 25}`,
+        position: 'Software Engineer',
+        status: 'APPLIED',
+        applicationDate: new Date().toISOString().slice(0, 10),
+        notes: 'created by k6',
+    };
+}
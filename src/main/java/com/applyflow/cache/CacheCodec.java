@@ -0,0 +1,12 @@
+package com.applyflow.cache;
+
+/**
+ * Encoding used for values written to the shared cache tier. Both codecs read entries written by
+ * either one, so the codec can be switched with a rolling deploy.
+ */
+public enum CacheCodec {
+    /** Self-describing JSON with class names; readable by nodes that predate the codec switch. */
+    JSON,
+    /** Versioned Smile (binary JSON) with compact type ids from a {@link CacheTypeRegistry}. */
+    SMILE
+}
@@ -0,0 +1,21 @@
+package com.applyflow.cache;
+
+/**
+ * Tells other nodes to drop entries from their local cache tier.
+ */
+public interface CacheInvalidationPublisher {
+
+    CacheInvalidationPublisher NONE = new CacheInvalidationPublisher() {
+        @Override
+        public void evict(String cacheName, Object key) {
+        }
+
+        @Override
+        public void clear(String cacheName) {
+        }
+    };
+
+    void evict(String cacheName, Object key);
+
+    void clear(String cacheName);
+}
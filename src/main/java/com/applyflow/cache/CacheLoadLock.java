@@ -0,0 +1,35 @@
+package com.applyflow.cache;
+
+import java.time.Duration;
+
+/**
+ * Cross-node lease that lets one node load a missing shared-tier entry while the others wait for
+ * it to appear instead of hitting the database as well.
+ */
+public interface CacheLoadLock {
+
+    CacheLoadLock NONE = new CacheLoadLock() {
+        @Override
+        public boolean tryLock(String cacheName, Object key) {
+            return true;
+        }
+
+        @Override
+        public void unlock(String cacheName, Object key) {
+        }
+
+        @Override
+        public Duration leaseTime() {
+            return Duration.ZERO;
+        }
+    };
+
+    boolean tryLock(String cacheName, Object key);
+
+    void unlock(String cacheName, Object key);
+
+    /**
+     * How long a lease is held at most, and so how long other nodes wait before loading themselves.
+     */
+    Duration leaseTime();
+}
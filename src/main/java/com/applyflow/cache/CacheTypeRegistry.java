@@ -0,0 +1,46 @@
+package com.applyflow.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Assigns one-byte ids to the value types stored in the cache so binary entries carry an id
+ * instead of a class name. Ids are part of the stored format: never reuse or renumber one,
+ * only add new ids.
+ */
+public class CacheTypeRegistry {
+
+    static final int MAX_ID = 255;
+
+    private final Map<Class<?>, Integer> ids = new HashMap<>();
+    private final JavaType[] types = new JavaType[MAX_ID + 1];
+
+    public CacheTypeRegistry register(int id, Class<?> type, Class<?>... parameters) {
+        if (id < 1 || id > MAX_ID) {
+            throw new IllegalArgumentException("Type id must be between 1 and " + MAX_ID + ": " + id);
+        }
+        if (types[id] != null || ids.containsKey(type)) {
+            throw new IllegalArgumentException("Duplicate cache type registration: " + id + " -> " + type.getName());
+        }
+        TypeFactory typeFactory = TypeFactory.defaultInstance();
+        types[id] = parameters.length == 0
+                ? typeFactory.constructType(type)
+                : typeFactory.constructParametricType(type, parameters);
+        ids.put(type, id);
+        return this;
+    }
+
+    /**
+     * Returns the id registered for the value's class, or {@code 0} if it has none.
+     */
+    int idOf(Class<?> type) {
+        return ids.getOrDefault(type, 0);
+    }
+
+    JavaType typeOf(int id) {
+        return types[id];
+    }
+}
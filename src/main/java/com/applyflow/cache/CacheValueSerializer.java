@@ -0,0 +1,113 @@
+package com.applyflow.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileParser;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Redis value serializer that writes either the legacy JSON format or a versioned Smile format
+ * and reads both.
+ *
+ * <p>Smile entries are laid out as {@code [version][type id][payload]}. The type id comes from
+ * the {@link CacheTypeRegistry}; id {@code 0} marks an unregistered type whose payload carries
+ * its own class name. JSON text never starts with a byte below {@code 0x09}, which leaves that
+ * range for format versions. An entry with an unknown version is read as a cache miss so a node
+ * never fails on entries written by a newer one.
+ */
+@Slf4j
+public class CacheValueSerializer implements RedisSerializer<Object> {
+
+    static final byte SMILE_V1 = 0x01;
+    private static final byte MAX_VERSION = 0x08;
+    private static final int UNREGISTERED = 0;
+
+    private final CacheCodec codec;
+    private final RedisSerializer<Object> json;
+    private final CacheTypeRegistry registry;
+    private final ObjectMapper smile;
+    private final ObjectMapper typedSmile;
+
+    public CacheValueSerializer(CacheCodec codec, RedisSerializer<Object> json, CacheTypeRegistry registry) {
+        this.codec = codec;
+        this.json = json;
+        this.registry = registry;
+        this.smile = smileMapper();
+        this.typedSmile = smileMapper().activateDefaultTyping(
+                LaissezFaireSubTypeValidator.instance, ObjectMapper.DefaultTyping.NON_FINAL);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        if (codec == CacheCodec.JSON) {
+            return json.serialize(value);
+        }
+        int typeId = registry.idOf(value.getClass());
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        out.write(SMILE_V1);
+        out.write(typeId);
+        try {
+            if (typeId == UNREGISTERED) {
+                typedSmile.writerFor(Object.class).writeValue(out, value);
+            } else {
+                smile.writerFor(registry.typeOf(typeId)).writeValue(out, value);
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Could not write cache value of type " + value.getClass().getName(), e);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        byte version = bytes[0];
+        if (version > MAX_VERSION) {
+            return json.deserialize(bytes);
+        }
+        if (version != SMILE_V1 || bytes.length < 2) {
+            log.debug("Ignoring cache entry with unsupported format version {}", version);
+            return null;
+        }
+        int typeId = bytes[1] & 0xFF;
+        try {
+            if (typeId == UNREGISTERED) {
+                return typedSmile.readValue(bytes, 2, bytes.length - 2, Object.class);
+            }
+            JavaType type = registry.typeOf(typeId);
+            if (type == null) {
+                log.debug("Ignoring cache entry with unknown type id {}", typeId);
+                return null;
+            }
+            return smile.readValue(bytes, 2, bytes.length - 2, type);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read cache value with type id " + typeId, e);
+        }
+    }
+
+    private static ObjectMapper smileMapper() {
+        SmileFactory factory = SmileFactory.builder()
+                .disable(SmileGenerator.Feature.WRITE_HEADER)
+                .disable(SmileParser.Feature.REQUIRE_HEADER)
+                .build();
+        return new ObjectMapper(factory)
+                .registerModule(new JavaTimeModule())
+                // Tolerate fields removed by a newer deploy
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+}
@@ -0,0 +1,73 @@
+package com.applyflow.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Broadcasts local-tier invalidations over Redis pub/sub and applies the ones sent by other nodes.
+ * Messages are {@code evict|node|cache|key} or {@code clear|node|cache}. Only string keys can be
+ * matched on the receiving side, so evicting any other key type clears that cache on the other nodes.
+ * Pub/sub is fire-and-forget, so a node that misses a message serves the stale entry until its
+ * local TTL runs out.
+ */
+@Slf4j
+public class RedisCacheInvalidationBus implements CacheInvalidationPublisher, MessageListener {
+
+    public static final String CHANNEL = "applyflow:cache:invalidate";
+
+    private static final String EVICT = "evict";
+    private static final String CLEAR = "clear";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile TwoLevelCacheManager cacheManager;
+
+    public RedisCacheInvalidationBus(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public void bind(TwoLevelCacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public void evict(String cacheName, Object key) {
+        if (key instanceof String stringKey) {
+            send(EVICT + '|' + nodeId + '|' + cacheName + '|' + stringKey);
+        } else {
+            clear(cacheName);
+        }
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        send(CLEAR + '|' + nodeId + '|' + cacheName);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 4);
+        TwoLevelCacheManager manager = cacheManager;
+        if (manager == null || parts.length < 3 || nodeId.equals(parts[1])) {
+            return;
+        }
+        if (EVICT.equals(parts[0]) && parts.length == 4) {
+            manager.evictLocal(parts[2], parts[3]);
+        } else if (CLEAR.equals(parts[0])) {
+            manager.clearLocal(parts[2]);
+        }
+    }
+
+    private void send(String message) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (Exception e) {
+            log.warn("Failed to broadcast cache invalidation: {}", e.getMessage());
+        }
+    }
+}
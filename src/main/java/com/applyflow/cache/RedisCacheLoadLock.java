@@ -0,0 +1,67 @@
+package com.applyflow.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@link CacheLoadLock} backed by {@code SET NX PX}. Leases are owned by the node, which is
+ * enough because a node only ever has one load per key in flight; a lease that outlives its
+ * holder simply expires.
+ */
+@Slf4j
+public class RedisCacheLoadLock implements CacheLoadLock {
+
+    static final String PREFIX = "cache_load:";
+
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration leaseTime;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public RedisCacheLoadLock(StringRedisTemplate redisTemplate, Duration leaseTime) {
+        this.redisTemplate = redisTemplate;
+        this.leaseTime = leaseTime;
+    }
+
+    /**
+     * Fails open: if Redis cannot be reached the caller loads as if it held the lease.
+     */
+    @Override
+    public boolean tryLock(String cacheName, Object key) {
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey(cacheName, key), nodeId, leaseTime);
+            return Boolean.TRUE.equals(acquired);
+        } catch (DataAccessException e) {
+            log.debug("Load lock unavailable for {}::{}, loading without it", cacheName, key, e);
+            return true;
+        }
+    }
+
+    @Override
+    public void unlock(String cacheName, Object key) {
+        try {
+            redisTemplate.execute(RELEASE, List.of(lockKey(cacheName, key)), nodeId);
+        } catch (DataAccessException e) {
+            log.debug("Could not release load lock for {}::{}", cacheName, key, e);
+        }
+    }
+
+    @Override
+    public Duration leaseTime() {
+        return leaseTime;
+    }
+
+    private static String lockKey(String cacheName, Object key) {
+        return PREFIX + cacheName + "::" + key;
+    }
+}
@@ -0,0 +1,40 @@
+package com.applyflow.cache;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Records the encoded size of every value written to one shared-tier cache as
+ * {@code applyflow.cache.entry.size}.
+ */
+public class SizeRecordingRedisSerializer implements RedisSerializer<Object> {
+
+    private final RedisSerializer<Object> delegate;
+    private final DistributionSummary entrySize;
+
+    public SizeRecordingRedisSerializer(RedisSerializer<Object> delegate, String cacheName,
+                                        MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.entrySize = DistributionSummary.builder("applyflow.cache.entry.size")
+                .tag("cache", cacheName)
+                .baseUnit("bytes")
+                .description("Serialized size of values written to the shared cache tier")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        byte[] bytes = delegate.serialize(value);
+        if (bytes != null) {
+            entrySize.record(bytes.length);
+        }
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        return delegate.deserialize(bytes);
+    }
+}
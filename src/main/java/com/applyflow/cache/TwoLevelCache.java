@@ -0,0 +1,395 @@
+package com.applyflow.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded in-process Caffeine tier in front of an optional shared cache (Redis in prod).
+ * Reads are served locally when possible and fill the local tier from the shared one on a miss.
+ * Writes go to both tiers and are broadcast so other nodes drop their now-stale local copy.
+ *
+ * <p>Loads through {@link #get(Object, Callable)} ({@code @Cacheable(sync = true)}) are
+ * single-flight: concurrent misses on a key in this node wait for one load, and nodes missing the
+ * shared tier at the same time wait for the one holding the {@link CacheLoadLock}. Hot entries
+ * are also reloaded in the background shortly before their local TTL runs out, with the
+ * probabilistic early expiration of Vattani et al. (XFetch): the closer an entry is to expiry and
+ * the longer loads take, the more likely a read triggers the refresh, so refreshes rarely line up.
+ * A write or eviction during a load discards the loaded value instead of caching it, and one during
+ * a read from the shared tier stops that value from filling the local tier. The shared tier is
+ * only ever called outside the in-flight map, so a slow Redis holds up no other key.
+ *
+ * <p>A refresh calls the value loader of the read that triggered it on the refresh executor, after
+ * that read has returned. The loader must therefore not depend on the caller's thread: it gets the
+ * caller's security context only if the executor passes it on, and it runs in a transaction only
+ * if the caching advice wraps the transaction advice (see {@code CacheConfig}).
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private static final long PEER_POLL_MILLIS = 25;
+    private static final double LOAD_TIME_WEIGHT = 0.2;
+
+    private final String name;
+    private final Cache<Object, Object> local;
+    private final org.springframework.cache.Cache remote;
+    private final CacheInvalidationPublisher publisher;
+    private final CacheLoadLock loadLock;
+    private final Executor refreshExecutor;
+    private final double refreshBeta;
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Counter originLoads;
+    private final Counter sharedLoads;
+    private final Counter coalescedLoads;
+    private final Counter peerLoads;
+    private final Counter refreshes;
+    private final Timer loadTimer;
+    private volatile double loadNanos;
+
+    /**
+     * @param refreshBeta how eagerly to refresh ahead of expiry; {@code 0} disables it, {@code 1}
+     *                    is the usual choice, larger values refresh earlier
+     */
+    public TwoLevelCache(String name, Cache<Object, Object> local, org.springframework.cache.Cache remote,
+                         CacheInvalidationPublisher publisher, CacheLoadLock loadLock,
+                         Executor refreshExecutor, double refreshBeta, MeterRegistry meterRegistry) {
+        super(true);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.publisher = publisher;
+        this.loadLock = loadLock;
+        this.refreshExecutor = refreshExecutor;
+        this.refreshBeta = refreshBeta;
+        this.originLoads = loadCounter(meterRegistry, "origin");
+        this.sharedLoads = loadCounter(meterRegistry, "shared");
+        this.coalescedLoads = loadCounter(meterRegistry, "coalesced");
+        this.peerLoads = loadCounter(meterRegistry, "peer");
+        this.refreshes = Counter.builder("applyflow.cache.refreshes")
+                .tag("cache", name)
+                .description("Entries reloaded in the background ahead of expiry")
+                .register(meterRegistry);
+        this.loadTimer = Timer.builder("applyflow.cache.load")
+                .tag("cache", name)
+                .description("Time spent loading missing entries from the source of truth")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    public Cache<Object, Object> getLocalCache() {
+        return local;
+    }
+
+    /**
+     * The shared tier, or {@code null} when this cache is local only.
+     */
+    public org.springframework.cache.Cache getSharedCache() {
+        return remote;
+    }
+
+    public Timer getLoadTimer() {
+        return loadTimer;
+    }
+
+    /**
+     * The most frequently used keys in the local tier, most frequent first.
+     */
+    public List<Object> hottestKeys(int limit) {
+        return local.policy().eviction()
+                .map(eviction -> List.copyOf(eviction.hottest(limit).keySet()))
+                .orElse(List.of());
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = local.getIfPresent(key);
+        if (value != null || remote == null) {
+            return value;
+        }
+        // Registered like a load so that a put or evict racing with the read stops the local fill
+        CompletableFuture<Object> fill = new CompletableFuture<>();
+        boolean filling = inFlight.putIfAbsent(key, fill) == null;
+        try {
+            ValueWrapper wrapper = remote.get(key);
+            if (wrapper == null) {
+                return null;
+            }
+            Object stored = toStoreValue(wrapper.get());
+            if (filling) {
+                cacheLocally(key, fill, stored);
+            }
+            return stored;
+        } finally {
+            if (filling) {
+                inFlight.remove(key, fill);
+                fill.cancel(false); // anyone who joined it loads for themselves
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object cached = local.getIfPresent(key);
+        if (cached != null) {
+            refreshAheadIfDue(key, valueLoader);
+            return (T) fromStoreValue(cached);
+        }
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, load);
+        if (existing != null) {
+            coalescedLoads.increment();
+            return (T) fromStoreValue(await(key, valueLoader, existing));
+        }
+        return (T) fromStoreValue(lead(key, valueLoader, load));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        inFlight.remove(key);
+        if (remote != null) {
+            remote.put(key, value);
+        }
+        local.put(key, toStoreValue(value));
+        publisher.evict(name, key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        inFlight.remove(key);
+        if (remote != null) {
+            remote.evict(key);
+        }
+        local.invalidate(key);
+        publisher.evict(name, key);
+    }
+
+    @Override
+    public void clear() {
+        inFlight.clear();
+        if (remote != null) {
+            remote.clear();
+        }
+        local.invalidateAll();
+        publisher.clear(name);
+    }
+
+    /**
+     * Drops a local entry only; used when another node reports a change.
+     */
+    public void evictLocal(Object key) {
+        local.invalidate(key);
+    }
+
+    public void clearLocal() {
+        local.invalidateAll();
+    }
+
+    /**
+     * Runs the load this thread registered in {@link #inFlight} and completes it for any waiters.
+     */
+    private Object lead(Object key, Callable<?> valueLoader, CompletableFuture<Object> load) {
+        try {
+            Object stored = local.getIfPresent(key); // filled by a load that finished after our miss
+            if (stored == null) {
+                stored = remote != null ? loadShared(key, valueLoader, load) : loadOrigin(key, valueLoader, load);
+            }
+            load.complete(stored);
+            inFlight.remove(key, load);
+            return stored;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            inFlight.remove(key, load);
+            throw e;
+        }
+    }
+
+    private Object loadShared(Object key, Callable<?> valueLoader, CompletableFuture<Object> load) {
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null) {
+            sharedLoads.increment();
+            return cacheLocally(key, load, toStoreValue(wrapper.get()));
+        }
+        if (!loadLock.tryLock(name, key)) {
+            Object fromPeer = awaitPeer(key);
+            if (fromPeer != null) {
+                peerLoads.increment();
+                return cacheLocally(key, load, fromPeer);
+            }
+            log.debug("Timed out waiting for another node to load {}::{}", name, key);
+            return loadOrigin(key, valueLoader, load);
+        }
+        try {
+            return loadOrigin(key, valueLoader, load);
+        } finally {
+            loadLock.unlock(name, key);
+        }
+    }
+
+    private Object awaitPeer(Object key) {
+        long deadline = System.nanoTime() + loadLock.leaseTime().toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(PEER_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            ValueWrapper wrapper = remote.get(key);
+            if (wrapper != null) {
+                return toStoreValue(wrapper.get());
+            }
+        }
+        return null;
+    }
+
+    private Object loadOrigin(Object key, Callable<?> valueLoader, CompletableFuture<Object> load) {
+        long start = System.nanoTime();
+        Object stored = toStoreValue(call(key, valueLoader));
+        recordLoadTime(System.nanoTime() - start);
+        originLoads.increment();
+        if (remote == null) {
+            return cacheLocally(key, load, stored);
+        }
+        if (inFlight.get(key) != load) {
+            return stored; // already superseded by a put or evict, so possibly stale
+        }
+        // Written outside the in-flight map so a slow shared tier only holds up this key. A put or
+        // evict that ran meanwhile removed the entry, and may have been overwritten by this write,
+        // so the shared copy is dropped again instead of cached locally.
+        remote.put(key, fromStoreValue(stored));
+        if (!installLocally(key, load, stored)) {
+            remote.evict(key);
+            publisher.evict(name, key);
+        }
+        return stored;
+    }
+
+    private Object cacheLocally(Object key, CompletableFuture<Object> load, Object stored) {
+        installLocally(key, load, stored);
+        return stored;
+    }
+
+    /**
+     * Fills the local tier and ends the load, unless a put or evict has ended it already.
+     *
+     * @return whether the load was still current
+     */
+    private boolean installLocally(Object key, CompletableFuture<Object> load, Object stored) {
+        boolean[] current = new boolean[1];
+        inFlight.computeIfPresent(key, (k, registered) -> {
+            if (registered != load) {
+                return registered;
+            }
+            local.put(k, stored);
+            current[0] = true;
+            return null;
+        });
+        return current[0];
+    }
+
+    private void refreshAheadIfDue(Object key, Callable<?> valueLoader) {
+        if (refreshBeta <= 0 || loadNanos == 0 || inFlight.containsKey(key)) {
+            return;
+        }
+        Optional<Policy.FixedExpiration<Object, Object>> expiration = local.policy().expireAfterWrite();
+        if (expiration.isEmpty()) {
+            return;
+        }
+        OptionalLong age = expiration.get().ageOf(key, TimeUnit.NANOSECONDS);
+        if (age.isEmpty()) {
+            return;
+        }
+        long remaining = expiration.get().getExpiresAfter(TimeUnit.NANOSECONDS) - age.getAsLong();
+        double headStart = -loadNanos * refreshBeta * Math.log(1 - ThreadLocalRandom.current().nextDouble());
+        if (headStart < remaining) {
+            return;
+        }
+        CompletableFuture<Object> refresh = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, refresh) != null) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> refresh(key, valueLoader, refresh));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, refresh);
+            refresh.cancel(false);
+        }
+    }
+
+    private void refresh(Object key, Callable<?> valueLoader, CompletableFuture<Object> refresh) {
+        try {
+            refresh.complete(loadOrigin(key, valueLoader, refresh));
+            refreshes.increment();
+            publisher.evict(name, key);
+        } catch (RuntimeException e) {
+            refresh.completeExceptionally(e);
+            log.warn("Background refresh of {}::{} failed", name, key, e);
+        } finally {
+            inFlight.remove(key, refresh);
+        }
+    }
+
+    private Object await(Object key, Callable<?> valueLoader, CompletableFuture<Object> load) {
+        try {
+            return load.join();
+        } catch (CancellationException e) {
+            return toStoreValue(get(key, valueLoader)); // a refresh the executor turned down
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    private void recordLoadTime(long nanos) {
+        loadTimer.record(nanos, TimeUnit.NANOSECONDS);
+        double current = loadNanos;
+        loadNanos = current == 0 ? nanos : current + LOAD_TIME_WEIGHT * (nanos - current);
+    }
+
+    private Counter loadCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("applyflow.cache.loads")
+                .tag("cache", name)
+                .tag("source", source)
+                .description("Cache misses by where the value came from; coalesced and peer loads "
+                        + "waited for a load already running in this node or another one")
+                .register(meterRegistry);
+    }
+
+    private static Object call(Object key, Callable<?> valueLoader) {
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.applyflow.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.actuate.metrics.cache.RedisCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Creates a {@link TwoLevelCache} per cache name, backed by the matching cache of {@code remote}
+ * when one is given and by the local tier alone otherwise.
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager remote;
+    private final CacheInvalidationPublisher publisher;
+    private final CacheLoadLock loadLock;
+    private final Executor refreshExecutor;
+    private final double refreshBeta;
+    private final long localMaxSize;
+    private final Duration localTtl;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> withoutRefreshAhead = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<String, Duration> localTtls = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remote, CacheInvalidationPublisher publisher, CacheLoadLock loadLock,
+                                Executor refreshExecutor, double refreshBeta, long localMaxSize,
+                                Duration localTtl, MeterRegistry meterRegistry) {
+        this.remote = remote;
+        this.publisher = publisher;
+        this.loadLock = loadLock;
+        this.refreshExecutor = refreshExecutor;
+        this.refreshBeta = refreshBeta;
+        this.localMaxSize = localMaxSize;
+        this.localTtl = localTtl;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Turns refresh-ahead off for caches whose value loader must not run again without a reason,
+     * such as a generation token that would be replaced with a new one by a refresh. Call before
+     * the caches are first used.
+     */
+    public TwoLevelCacheManager withoutRefreshAhead(String... cacheNames) {
+        withoutRefreshAhead.addAll(List.of(cacheNames));
+        return this;
+    }
+
+    /**
+     * Gives one cache's local tier its own TTL. Call before the cache is first used.
+     */
+    public TwoLevelCacheManager withLocalTtl(String cacheName, Duration ttl) {
+        localTtls.put(cacheName, ttl);
+        return this;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    public void evictLocal(String cacheName, Object key) {
+        TwoLevelCache cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.evictLocal(key);
+        }
+    }
+
+    public void clearLocal(String cacheName) {
+        TwoLevelCache cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.clearLocal();
+        }
+    }
+
+    public Collection<TwoLevelCache> getCaches() {
+        return Collections.unmodifiableCollection(caches.values());
+    }
+
+    /**
+     * Both tiers report {@code cache.gets}, {@code cache.puts}, {@code cache.evictions}, ... tagged
+     * with {@code cache} and {@code tier} ({@code local} or {@code shared}).
+     */
+    private TwoLevelCache createCache(String name) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtls.getOrDefault(name, localTtl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name, "tier", "local");
+        Cache remoteCache = remote != null ? remote.getCache(name) : null;
+        if (remoteCache instanceof RedisCache redisCache) {
+            new RedisCacheMetrics(redisCache, Tags.of("tier", "shared")).bindTo(meterRegistry);
+        }
+        double beta = withoutRefreshAhead.contains(name) ? 0 : refreshBeta;
+        return new TwoLevelCache(name, local, remoteCache, publisher, loadLock, refreshExecutor, beta,
+                meterRegistry);
+    }
+}
@@ -0,0 +1,85 @@
+package com.applyflow.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * Per-user generation token that is part of every cached listing key. Changing a user's
+ * applications replaces the token, which orphans all of that user's cached pages at once without
+ * finding or deleting them; they simply expire. Tokens are random rather than counters so a token
+ * that expires and is recreated can never match pages cached under an older one.
+ */
+@Component("userCacheGenerations")
+public class UserCacheGenerations {
+
+    public static final String CACHE_NAME = "userApplications";
+
+    private final CacheManager cacheManager;
+
+    public UserCacheGenerations(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    public String current(Long userId) {
+        return cache().get(String.valueOf(userId), UserCacheGenerations::newToken);
+    }
+
+    /**
+     * Replaces the user's generation once the surrounding transaction commits, so a concurrent
+     * read cannot cache pre-commit data under the new generation.
+     *
+     * @return the generation the change was made under and the one that replaces it
+     */
+    public Change bump(Long userId) {
+        Change change = new Change(current(userId), newToken());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    replace(userId, change.next());
+                }
+            });
+        } else {
+            replace(userId, change.next());
+        }
+        return change;
+    }
+
+    /**
+     * Cache key for one page of a user's filtered listing.
+     */
+    public String pageKey(Long userId, Object... parts) {
+        StringBuilder key = new StringBuilder().append(userId).append(':').append(current(userId));
+        for (Object part : parts) {
+            key.append(':');
+            if (part != null) {
+                key.append(part.toString().replace("\\", "\\\\").replace(":", "\\:"));
+            }
+        }
+        return key.toString();
+    }
+
+    private void replace(Long userId, String token) {
+        cache().put(String.valueOf(userId), token);
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+
+    private static String newToken() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * One bump: state built under {@code previous} that has the change applied is current under
+     * {@code next}, unless another write bumped the generation again in between.
+     */
+    public record Change(String previous, String next) {
+    }
+}
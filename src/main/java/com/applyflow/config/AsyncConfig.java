@@ -0,0 +1,170 @@
+package com.applyflow.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Separate executors for blocking side work so a slow SMTP server cannot hold up cache refreshes
+ * and the other way round. Thread pools are picked up by Boot's executor metrics
+ * ({@code executor.active}, {@code executor.queued}, ... tagged with the bean name); rejections
+ * are counted here as {@code executor.rejected}.
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class AsyncConfig {
+
+    public static final String EMAIL_EXECUTOR = "emailTaskExecutor";
+    public static final String CACHE_REFRESH_EXECUTOR = "cacheRefreshExecutor";
+    public static final String RATE_LIMIT_RELEASE_EXECUTOR = "rateLimitReleaseExecutor";
+
+    public enum RejectionPolicy {
+        ABORT,
+        CALLER_RUNS,
+        DISCARD,
+        DISCARD_OLDEST
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Declaring our own executors switches off Boot's default one, which unqualified {@code @Async}
+     * and MVC async requests (streamed exports) still rely on, so it is recreated here the same way
+     * Boot would, including the {@code spring.threads.virtual.enabled} switch.
+     */
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    @Primary
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    @Primary
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor applicationTaskExecutorVirtualThreads(SimpleAsyncTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(EMAIL_EXECUTOR)
+    public AsyncTaskExecutor emailTaskExecutor(
+            @Value("${application.async.email.virtual-threads:false}") boolean virtualThreads,
+            @Value("${application.async.email.max-concurrency:50}") int maxConcurrency,
+            @Value("${application.async.email.core-size:2}") int coreSize,
+            @Value("${application.async.email.max-size:4}") int maxSize,
+            @Value("${application.async.email.queue-capacity:100}") int queueCapacity,
+            @Value("${application.async.email.rejection-policy:CALLER_RUNS}") RejectionPolicy rejectionPolicy) {
+        if (virtualThreads) {
+            return virtualThreadExecutor(EMAIL_EXECUTOR, "email-", maxConcurrency);
+        }
+        return threadPool(EMAIL_EXECUTOR, "email-", coreSize, maxSize, queueCapacity, rejectionPolicy);
+    }
+
+    /**
+     * Background refresh-ahead loads. A refresh that does not fit is simply skipped: the entry is
+     * still served until it expires and is then loaded on the request path.
+     */
+    @Bean(CACHE_REFRESH_EXECUTOR)
+    public ThreadPoolTaskExecutor cacheRefreshExecutor(
+            @Value("${application.async.cache-refresh.core-size:1}") int coreSize,
+            @Value("${application.async.cache-refresh.max-size:2}") int maxSize,
+            @Value("${application.async.cache-refresh.queue-capacity:100}") int queueCapacity) {
+        return threadPool(CACHE_REFRESH_EXECUTOR, "cache-refresh-", coreSize, maxSize, queueCapacity,
+                RejectionPolicy.DISCARD);
+    }
+
+    /**
+     * Hands unused leased rate-limit permits back to Redis when a lease is evicted. The caller runs
+     * the release itself when the pool is saturated: dropping the task would also drop the cache
+     * maintenance Caffeine schedules on the same executor.
+     */
+    @Bean(RATE_LIMIT_RELEASE_EXECUTOR)
+    public ThreadPoolTaskExecutor rateLimitReleaseExecutor(
+            @Value("${application.async.rate-limit-release.core-size:1}") int coreSize,
+            @Value("${application.async.rate-limit-release.max-size:2}") int maxSize,
+            @Value("${application.async.rate-limit-release.queue-capacity:1000}") int queueCapacity) {
+        return threadPool(RATE_LIMIT_RELEASE_EXECUTOR, "rate-limit-release-", coreSize, maxSize, queueCapacity,
+                RejectionPolicy.CALLER_RUNS);
+    }
+
+    ThreadPoolTaskExecutor threadPool(String name, String threadPrefix, int coreSize, int maxSize,
+                                      int queueCapacity, RejectionPolicy rejectionPolicy) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadPrefix);
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(countingHandler(name, rejectionPolicy));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    /**
+     * Unpooled virtual threads for blocking I/O. The concurrency limit makes callers wait rather
+     * than queue without bound, so there is nothing to reject. Not on by default even when
+     * {@code spring.threads.virtual.enabled} is set: Angus Mail's SMTPTransport does its socket I/O
+     * inside synchronized methods, which pins the carrier thread for the whole send on Java 21.
+     */
+    AsyncTaskExecutor virtualThreadExecutor(String name, String threadPrefix, int maxConcurrency) {
+        AtomicInteger active = new AtomicInteger();
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadPrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(maxConcurrency);
+        executor.setTaskTerminationTimeout(10_000);
+        executor.setTaskDecorator(task -> () -> {
+            active.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                active.decrementAndGet();
+            }
+        });
+        Gauge.builder("executor.active", active, AtomicInteger::get)
+                .tag("name", name)
+                .description("The approximate number of threads that are actively executing tasks")
+                .register(meterRegistry);
+        rejectedCounter(name);
+        return executor;
+    }
+
+    private RejectedExecutionHandler countingHandler(String name, RejectionPolicy policy) {
+        RejectedExecutionHandler delegate = switch (policy) {
+            case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case DISCARD -> new ThreadPoolExecutor.DiscardPolicy();
+            case DISCARD_OLDEST -> new ThreadPoolExecutor.DiscardOldestPolicy();
+        };
+        Counter rejected = rejectedCounter(name);
+        return (task, pool) -> {
+            rejected.increment();
+            log.warn("Executor {} saturated, applying {} policy", name, policy);
+            delegate.rejectedExecution(task, pool);
+        };
+    }
+
+    private Counter rejectedCounter(String name) {
+        return Counter.builder("executor.rejected")
+                .tag("name", name)
+                .description("Tasks the executor could not accept because it was saturated")
+                .register(meterRegistry);
+    }
+}
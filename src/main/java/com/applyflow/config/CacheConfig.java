@@ -1,10 +1,24 @@
 package com.applyflow.config;
 
+import com.applyflow.cache.CacheCodec;
+import com.applyflow.cache.CacheInvalidationPublisher;
+import com.applyflow.cache.CacheLoadLock;
+import com.applyflow.cache.CacheTypeRegistry;
+import com.applyflow.cache.CacheValueSerializer;
+import com.applyflow.cache.RedisCacheInvalidationBus;
+import com.applyflow.cache.RedisCacheLoadLock;
+import com.applyflow.cache.SizeRecordingRedisSerializer;
+import com.applyflow.cache.TwoLevelCacheManager;
+import com.applyflow.cache.UserCacheGenerations;
+import com.applyflow.dto.JobApplicationResponse;
+import com.applyflow.dto.PagedResponse;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -12,21 +26,33 @@ import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
 
 import java.time.Duration;
+import java.util.concurrent.Executor;
 
+/**
+ * The caching advice is ordered to wrap the transaction advice (which keeps Boot's default,
+ * {@link Ordered#LOWEST_PRECEDENCE}): hits never open a transaction, and a value loader, including
+ * one run later by a background refresh, enters the method's own {@code @Transactional} advice.
+ */
 @Configuration
-@EnableCaching
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
 @Slf4j
 public class CacheConfig {
 
         private static final String CACHE_APPLICATIONS = "applications";
-        private static final String CACHE_USER_APPLICATIONS = "userApplications";
+        private static final String CACHE_USER_APPLICATIONS = UserCacheGenerations.CACHE_NAME;
+        private static final String CACHE_APPLICATION_PAGES = "applicationPages";
 
         @Value("${application.cache.ttl-seconds:60}")
         private long ttlSeconds;
@@ -34,9 +60,45 @@ public class CacheConfig {
         @Value("${application.cache.enabled:true}")
         private boolean cacheEnabled;
 
+        @Value("${application.cache.codec:JSON}")
+        private CacheCodec codec;
+
+        @Value("${application.cache.local.max-size:10000}")
+        private long localMaxSize;
+
+        @Value("${application.cache.local.ttl-seconds:${application.cache.ttl-seconds:60}}")
+        private long localTtlSeconds;
+
+        @Value("${application.cache.generation-ttl-seconds:86400}")
+        private long generationTtlSeconds;
+
+        @Value("${application.cache.refresh-ahead-beta:1.0}")
+        private double refreshAheadBeta;
+
+        @Value("${application.cache.load-lock-lease-ms:5000}")
+        private long loadLockLeaseMillis;
+
         @Bean
         @Profile("prod")
-        public CacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
+        public RedisCacheInvalidationBus cacheInvalidationBus(RedisConnectionFactory connectionFactory) {
+                return new RedisCacheInvalidationBus(new StringRedisTemplate(connectionFactory));
+        }
+
+        @Bean
+        @Profile("prod")
+        public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+                        RedisConnectionFactory connectionFactory, RedisCacheInvalidationBus cacheInvalidationBus) {
+                RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+                container.setConnectionFactory(connectionFactory);
+                container.addMessageListener(cacheInvalidationBus, new ChannelTopic(RedisCacheInvalidationBus.CHANNEL));
+                return container;
+        }
+
+        @Bean
+        @Profile("prod")
+        public CacheManager redisCacheManager(RedisConnectionFactory connectionFactory,
+                        RedisCacheInvalidationBus cacheInvalidationBus, MeterRegistry meterRegistry,
+                        @Qualifier(AsyncConfig.CACHE_REFRESH_EXECUTOR) Executor refreshExecutor) {
                 if (!cacheEnabled) {
                         log.info("Cache is disabled, using no-op cache manager");
                         return new ConcurrentMapCacheManager();
@@ -49,7 +111,8 @@ public class CacheConfig {
                                 ObjectMapper.DefaultTyping.NON_FINAL,
                                 JsonTypeInfo.As.PROPERTY);
 
-                GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(cacheMapper);
+                CacheValueSerializer serializer = new CacheValueSerializer(codec,
+                                new GenericJackson2JsonRedisSerializer(cacheMapper), cacheTypes());
 
                 RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                                 .entryTtl(Duration.ofSeconds(ttlSeconds))
@@ -57,24 +120,73 @@ public class CacheConfig {
                                                 RedisSerializationContext.SerializationPair.fromSerializer(serializer))
                                 .disableCachingNullValues();
 
-                log.info("Redis cache configured with TTL={}s, enabled={}", ttlSeconds, cacheEnabled);
+                log.info("Redis cache configured with TTL={}s, enabled={}, codec={}", ttlSeconds, cacheEnabled, codec);
 
-                return RedisCacheManager.builder(connectionFactory)
+                RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                                 .cacheDefaults(defaultConfig)
                                 .withCacheConfiguration(CACHE_APPLICATIONS,
-                                                defaultConfig.entryTtl(Duration.ofSeconds(ttlSeconds)))
+                                                measured(defaultConfig, serializer, CACHE_APPLICATIONS, meterRegistry))
                                 .withCacheConfiguration(CACHE_USER_APPLICATIONS,
-                                                defaultConfig.entryTtl(Duration.ofSeconds(ttlSeconds)))
+                                                measured(defaultConfig.entryTtl(Duration.ofSeconds(generationTtlSeconds)),
+                                                                serializer, CACHE_USER_APPLICATIONS, meterRegistry))
+                                .withCacheConfiguration(CACHE_APPLICATION_PAGES,
+                                                measured(defaultConfig, serializer, CACHE_APPLICATION_PAGES, meterRegistry))
+                                .enableStatistics()
                                 .build();
+                redisCacheManager.afterPropertiesSet();
+
+                RedisCacheLoadLock loadLock = new RedisCacheLoadLock(new StringRedisTemplate(connectionFactory),
+                                Duration.ofMillis(loadLockLeaseMillis));
+                TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(redisCacheManager,
+                                cacheInvalidationBus, loadLock, refreshExecutor(refreshExecutor), refreshAheadBeta,
+                                localMaxSize, Duration.ofSeconds(localTtlSeconds), meterRegistry)
+                                // The local copy of a token keeps the short TTL: Redis holds the long-lived
+                                // one, and a lost invalidation must not pin an old token on this node
+                                .withoutRefreshAhead(CACHE_USER_APPLICATIONS);
+                cacheInvalidationBus.bind(cacheManager);
+                log.info("Local cache tier: max {} entries, TTL={}s, refresh-ahead beta={}",
+                                localMaxSize, localTtlSeconds, refreshAheadBeta);
+                return cacheManager;
         }
 
         @Bean
         @Profile("!prod")
-        public CacheManager simpleCacheManager() {
+        public CacheManager simpleCacheManager(MeterRegistry meterRegistry,
+                        @Qualifier(AsyncConfig.CACHE_REFRESH_EXECUTOR) Executor refreshExecutor) {
                 if (!cacheEnabled) {
                         log.info("Cache is disabled in non-prod profile");
                         return new ConcurrentMapCacheManager();
                 }
-                return new ConcurrentMapCacheManager(CACHE_APPLICATIONS, CACHE_USER_APPLICATIONS);
+                return new TwoLevelCacheManager(null, CacheInvalidationPublisher.NONE, CacheLoadLock.NONE,
+                                refreshExecutor(refreshExecutor), refreshAheadBeta, localMaxSize,
+                                Duration.ofSeconds(localTtlSeconds), meterRegistry)
+                                .withoutRefreshAhead(CACHE_USER_APPLICATIONS)
+                                .withLocalTtl(CACHE_USER_APPLICATIONS, Duration.ofSeconds(generationTtlSeconds));
+        }
+
+        /**
+         * Background refreshes run the loader of the request that triggered them, so they carry
+         * that request's user: replica routing then still sends a recent writer's reads to the
+         * primary instead of caching a lagging replica's rows.
+         */
+        private static Executor refreshExecutor(Executor executor) {
+                return new DelegatingSecurityContextExecutor(executor);
+        }
+
+        private RedisCacheConfiguration measured(RedisCacheConfiguration config, CacheValueSerializer serializer,
+                        String cacheName, MeterRegistry meterRegistry) {
+                return config.serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                                new SizeRecordingRedisSerializer(serializer, cacheName, meterRegistry)));
+        }
+
+        /**
+         * Type ids written into SMILE cache entries. Append only: an id must keep its meaning for as
+         * long as entries written with it can still be in Redis.
+         */
+        public static CacheTypeRegistry cacheTypes() {
+                return new CacheTypeRegistry()
+                                .register(1, JobApplicationResponse.class)
+                                .register(2, PagedResponse.class, JobApplicationResponse.class)
+                                .register(3, String.class);
         }
 }
@@ -0,0 +1,108 @@
+package com.applyflow.config;
+
+import com.applyflow.datasource.LocalRecentWriters;
+import com.applyflow.datasource.RecentWriters;
+import com.applyflow.datasource.RedisRecentWriters;
+import com.applyflow.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces Boot's single pool with a primary pool plus one pool per replica when
+ * {@code application.datasource.replica-urls} is set. Replicas use the primary's credentials and
+ * pool settings, with a short connection timeout so an unreachable replica fails over quickly.
+ */
+@Configuration
+@ConditionalOnExpression("!'${application.datasource.replica-urls:}'.isBlank()")
+@Slf4j
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties, MeterRegistry meterRegistry) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        primary.setMetricRegistry(meterRegistry);
+        return primary;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(
+            HikariDataSource primaryDataSource,
+            MeterRegistry meterRegistry,
+            @Value("${application.datasource.replica-urls}") List<String> replicaUrls,
+            @Value("${application.datasource.replica-connection-timeout-ms:1000}") long connectionTimeoutMs,
+            RecentWriters recentWriters) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : replicaUrls) {
+            HikariDataSource replica = new HikariDataSource();
+            primaryDataSource.copyStateTo(replica);
+            String name = "replica-" + (replicas.size() + 1);
+            replica.setPoolName(name);
+            replica.setJdbcUrl(url.trim());
+            replica.setReadOnly(true);
+            replica.setConnectionTimeout(connectionTimeoutMs);
+            replica.setInitializationFailTimeout(-1); // a replica that is down at startup must not stop the app
+            replica.setMetricRegistry(meterRegistry);
+            replicas.put(name, replica);
+        }
+        log.info("Routing read-only transactions to {} replica(s)", replicas.size());
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, recentWriters);
+    }
+
+    /**
+     * Kept in Redis when there is one, because the result caches are shared across nodes and a
+     * node that reads a lagging replica would cache the stale rows for all of them.
+     */
+    @Bean
+    public RecentWriters recentWriters(
+            ObjectProvider<StringRedisTemplate> redisTemplate,
+            @Value("${application.datasource.read-your-writes-ms:0}") long readYourWritesMs,
+            @Value("${application.datasource.read-your-writes-miss-cache-ms:200}") long missCacheMs) {
+        if (readYourWritesMs <= 0) {
+            return RecentWriters.NONE;
+        }
+        Duration window = Duration.ofMillis(readYourWritesMs);
+        StringRedisTemplate redis = redisTemplate.getIfAvailable();
+        return redis != null
+                ? new RedisRecentWriters(redis, window, Duration.ofMillis(missCacheMs))
+                : new LocalRecentWriters(window);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * Hibernate otherwise keeps a session's first connection until the session closes, and with
+     * open-in-view that is the end of the request: a write after a read would reuse the replica
+     * connection. Releasing after each transaction lets every transaction be routed on its own.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
@@ -0,0 +1,51 @@
+package com.applyflow.config;
+
+import com.applyflow.security.HybridRateLimiter;
+import com.applyflow.security.LocalWindowRateLimiter;
+import com.applyflow.security.RateLimiter;
+import com.applyflow.security.RedisSlidingWindowRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+@Configuration
+@Slf4j
+public class RateLimitConfig {
+
+    public enum Mode {
+        /** Every request is checked against Redis; fails open when Redis is down. */
+        REDIS,
+        /** Permits are leased from Redis in batches; falls back to per-node shares of the limit when Redis is down. */
+        HYBRID
+    }
+
+    private static final long MAX_TRACKED_KEYS = 100_000;
+
+    @Bean
+    public RateLimiter rateLimiter(
+            ObjectProvider<StringRedisTemplate> redisTemplate,
+            MeterRegistry meterRegistry,
+            @Qualifier(AsyncConfig.RATE_LIMIT_RELEASE_EXECUTOR) Executor releaseExecutor,
+            @Value("${application.rate-limit.mode:REDIS}") Mode mode,
+            @Value("${application.rate-limit.lease-size:10}") int leaseSize,
+            @Value("${application.rate-limit.lease-ttl-ms:1000}") long leaseTtlMillis,
+            @Value("${application.rate-limit.fallback-nodes:1}") int fallbackNodes) {
+        RedisSlidingWindowRateLimiter redisLimiter = new RedisSlidingWindowRateLimiter(redisTemplate.getIfAvailable());
+        if (mode == Mode.REDIS) {
+            return redisLimiter;
+        }
+
+        log.info("Hybrid rate limiting enabled: lease size {}, lease TTL {} ms, fallback split across {} nodes",
+                leaseSize, leaseTtlMillis, fallbackNodes);
+        return new HybridRateLimiter(redisLimiter, new LocalWindowRateLimiter(MAX_TRACKED_KEYS, fallbackNodes),
+                leaseSize, Duration.ofMillis(leaseTtlMillis), MAX_TRACKED_KEYS, meterRegistry, releaseExecutor);
+    }
+}
@@ -0,0 +1,22 @@
+package com.applyflow.config;
+
+import com.applyflow.scheduler.RedisScheduledJobLock;
+import com.applyflow.scheduler.ScheduledJobLock;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Configuration
+public class SchedulingConfig {
+
+    /**
+     * Every node runs the same cron, so jobs that should run once per cluster take a lease in
+     * Redis when there is one; a single node without Redis needs none.
+     */
+    @Bean
+    public ScheduledJobLock scheduledJobLock(ObjectProvider<StringRedisTemplate> redisTemplate) {
+        StringRedisTemplate redis = redisTemplate.getIfAvailable();
+        return redis != null ? new RedisScheduledJobLock(redis) : ScheduledJobLock.NONE;
+    }
+}
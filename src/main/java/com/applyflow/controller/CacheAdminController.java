@@ -0,0 +1,33 @@
+package com.applyflow.controller;
+
+import com.applyflow.dto.CacheStatsResponse;
+import com.applyflow.service.CacheAdminService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/caches")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Cache Admin", description = "Cache statistics (Admin only)")
+public class CacheAdminController {
+
+    private static final int MAX_HOTTEST_KEYS = 100;
+
+    private final CacheAdminService cacheAdminService;
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get size, hit/miss counts and hottest keys of each cache")
+    public ResponseEntity<List<CacheStatsResponse>> getCacheStats(
+            @RequestParam(defaultValue = "10") int hottest) {
+        return ResponseEntity.ok(cacheAdminService.getCacheStats(Math.clamp(hottest, 0, MAX_HOTTEST_KEYS)));
+    }
+}
@@ -3,7 +3,14 @@ package com.applyflow.controller;
 import com.applyflow.dto.*;
 import com.applyflow.entity.User;
 import com.applyflow.enums.ApplicationStatus;
+import com.applyflow.enums.ExportFormat;
+import com.applyflow.enums.SuggestField;
+import com.applyflow.exception.BadRequestException;
+import com.applyflow.service.JobApplicationExportService;
+import com.applyflow.service.JobApplicationImportService;
+import com.applyflow.service.JobApplicationSearchService;
 import com.applyflow.service.JobApplicationService;
+import com.applyflow.suggest.ApplicationSuggestionIndex;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -13,13 +20,20 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/applications")
@@ -28,7 +42,15 @@ import java.util.List;
 @Tag(name = "Job Applications", description = "CRUD operations for job applications")
 public class JobApplicationController {
 
+    private static final String CURSOR_SORT_KEY = "applicationDate";
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SUGGESTIONS = 50;
+
     private final JobApplicationService applicationService;
+    private final JobApplicationExportService exportService;
+    private final JobApplicationImportService importService;
+    private final JobApplicationSearchService searchService;
+    private final ApplicationSuggestionIndex suggestionIndex;
 
     @PostMapping
     @Operation(summary = "Create a new job application")
@@ -40,7 +62,10 @@ public class JobApplicationController {
     }
 
     @GetMapping
-    @Operation(summary = "List all applications with filtering and pagination")
+    @Operation(summary = "List all applications with filtering and pagination",
+            description = "Offset paging by default. Pass cursor=true (or an 'after' token from a previous "
+                    + "response's nextCursor) for keyset paging sorted by applicationDate; totals are not "
+                    + "computed in that mode.")
     public ResponseEntity<PagedResponse<JobApplicationResponse>> getAll(
             @AuthenticationPrincipal User user,
             @RequestParam(required = false) ApplicationStatus status,
@@ -50,7 +75,18 @@ public class JobApplicationController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "applicationDate") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean cursor,
+            @RequestParam(required = false) String after) {
+        if (cursor || after != null) {
+            if (!CURSOR_SORT_KEY.equals(sortBy)) {
+                throw new BadRequestException("Cursor pagination only supports sortBy=" + CURSOR_SORT_KEY);
+            }
+            return ResponseEntity.ok(applicationService.getAllAfter(
+                    user, status, companyName, startDate, endDate, after, Math.clamp(size, 1, MAX_PAGE_SIZE),
+                    sortDir.equalsIgnoreCase("asc")));
+        }
+
         Sort sort = sortDir.equalsIgnoreCase("asc")
                 ? Sort.by(sortBy).ascending()
                 : Sort.by(sortBy).descending();
@@ -60,6 +96,93 @@ public class JobApplicationController {
                 applicationService.getAll(user, status, companyName, startDate, endDate, pageable));
     }
 
+    @GetMapping("/search")
+    @Operation(summary = "Search applications by company, position and notes",
+            description = "Best matches first on Postgres (full-text, web search syntax such as \"kafka -remote\"), "
+                    + "newest first with substring matching elsewhere. Pages with the 'after' token from a previous "
+                    + "response's nextCursor; totals are not computed.")
+    public ResponseEntity<PagedResponse<JobApplicationResponse>> search(
+            @AuthenticationPrincipal User user,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after) {
+        return ResponseEntity.ok(searchService.search(user, q, after, Math.clamp(size, 1, MAX_PAGE_SIZE)));
+    }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "Autocomplete company or position names the user has used before",
+            description = "Case- and accent-insensitive prefix match, served from memory without a database query "
+                    + "once the user's index is loaded.")
+    public ResponseEntity<List<String>> suggest(
+            @AuthenticationPrincipal User user,
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "COMPANY") SuggestField field,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(suggestionIndex.suggest(user.getId(), field, prefix,
+                Math.clamp(limit, 1, MAX_SUGGESTIONS)));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export all matching applications as NDJSON or CSV",
+            description = "Accepts the same filters as the list endpoint and streams every matching row, "
+                    + "newest first, without paging.")
+    public ResponseEntity<StreamingResponseBody> export(
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(required = false) String companyName,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        StreamingResponseBody body = outputStream -> exportService.export(
+                user, status, companyName, startDate, endDate, format, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("applications." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @PostMapping("/import")
+    @Operation(summary = "Import applications from an NDJSON or CSV request body",
+            description = "Rows are validated like single creates and saved in chunks. Valid rows are imported "
+                    + "even if others fail; the response lists the failed rows (up to 100) with their line numbers. "
+                    + "CSV needs a header row; files from the export endpoint can be imported as they are.")
+    public ResponseEntity<ImportResult> importApplications(
+            @AuthenticationPrincipal User user,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            InputStream body) throws IOException {
+        return ResponseEntity.ok(importService.importApplications(user, format, body));
+    }
+
+    @PatchMapping("/status")
+    @Operation(summary = "Move several applications to one status",
+            description = "Updates up to 500 applications in one call. Ids that already have the status "
+                    + "or that do not belong to the user are skipped and listed in the response.")
+    public ResponseEntity<BulkStatusUpdateResponse> updateStatuses(
+            @Valid @RequestBody BulkStatusUpdateRequest request,
+            @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(applicationService.updateStatuses(request, user));
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Count the user's applications per status")
+    public ResponseEntity<ApplicationStatsResponse> getStats(@AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(applicationService.getStats(user));
+    }
+
+    @GetMapping("/history")
+    @Operation(summary = "Get the status change histories of several applications",
+            description = "Returns the timelines of up to 100 applications keyed by id. Ids that do not exist "
+                    + "or belong to another user are left out.")
+    public ResponseEntity<Map<Long, List<StatusHistoryResponse>>> getStatusHistories(
+            @RequestParam List<Long> ids,
+            @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(applicationService.getStatusHistories(ids, user));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get a job application by ID")
     public ResponseEntity<JobApplicationResponse> getById(
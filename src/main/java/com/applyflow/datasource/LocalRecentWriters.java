@@ -0,0 +1,31 @@
+package com.applyflow.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * {@link RecentWriters} kept on this node only. Enough for a single node; with several nodes a
+ * user's next request can land on a node that never saw the write.
+ */
+public class LocalRecentWriters implements RecentWriters {
+
+    private final Cache<Long, Boolean> writers;
+
+    public LocalRecentWriters(Duration window) {
+        this.writers = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    @Override
+    public void record(Long userId) {
+        writers.put(userId, Boolean.TRUE);
+    }
+
+    @Override
+    public boolean contains(Long userId) {
+        return writers.getIfPresent(userId) != null;
+    }
+}
@@ -0,0 +1,26 @@
+package com.applyflow.datasource;
+
+/**
+ * Users who committed a write within the read-your-writes window. Their read-only transactions go
+ * to the primary so they do not miss their own change while the replicas catch up.
+ */
+public interface RecentWriters {
+
+    RecentWriters NONE = new RecentWriters() {
+        @Override
+        public void record(Long userId) {
+        }
+
+        @Override
+        public boolean contains(Long userId) {
+            return false;
+        }
+    };
+
+    /**
+     * Starts (or restarts) the user's window. Called after the write has committed.
+     */
+    void record(Long userId);
+
+    boolean contains(Long userId);
+}
@@ -0,0 +1,83 @@
+package com.applyflow.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * {@link RecentWriters} shared by every node through a Redis key with the window as its TTL. The
+ * result caches are shared too, so a node that did not see the write must still send the writer's
+ * reads to the primary: otherwise it would cache a lagging replica's rows under the new generation
+ * for every node to serve.
+ *
+ * <p>Answers are kept on this node so that most reads do not cost a Redis call: writers (found in
+ * Redis or seen writing here) for the rest of the window, and users who were not writers for the
+ * short {@code missTtl}. A write on another node can therefore take up to {@code missTtl} to reach
+ * this node's routing, which is why it should stay well below the window. When a lookup fails,
+ * Redis is skipped for {@link #RETRY_AFTER} and only the writes this node saw count, so an outage
+ * costs one slow call per node rather than one per read.
+ */
+@Slf4j
+public class RedisRecentWriters implements RecentWriters {
+
+    static final String PREFIX = "recent_writer:";
+    static final Duration RETRY_AFTER = Duration.ofSeconds(5);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration window;
+    private final LocalRecentWriters local;
+    private final Cache<Long, Boolean> nonWriters;
+    private volatile long retryAtNanos = System.nanoTime();
+
+    public RedisRecentWriters(StringRedisTemplate redisTemplate, Duration window, Duration missTtl) {
+        this.redisTemplate = redisTemplate;
+        this.window = window;
+        this.local = new LocalRecentWriters(window);
+        this.nonWriters = Caffeine.newBuilder()
+                .expireAfterWrite(missTtl)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @Override
+    public void record(Long userId) {
+        local.record(userId);
+        nonWriters.invalidate(userId);
+        try {
+            redisTemplate.opsForValue().set(PREFIX + userId, "1", window);
+        } catch (DataAccessException e) {
+            log.debug("Could not share the read-your-writes window of user {}", userId, e);
+        }
+    }
+
+    /**
+     * Fails open: while Redis cannot be reached only writes seen by this node count.
+     */
+    @Override
+    public boolean contains(Long userId) {
+        if (local.contains(userId)) {
+            return true;
+        }
+        if (nonWriters.getIfPresent(userId) != null || System.nanoTime() - retryAtNanos < 0) {
+            return false;
+        }
+        try {
+            boolean writer = Boolean.TRUE.equals(redisTemplate.hasKey(PREFIX + userId));
+            if (writer) {
+                local.record(userId);
+            } else {
+                nonWriters.put(userId, Boolean.TRUE);
+            }
+            return writer;
+        } catch (DataAccessException e) {
+            retryAtNanos = System.nanoTime() + RETRY_AFTER.toNanos();
+            log.warn("Read-your-writes window unavailable, routing on this node's writes for {}s: {}",
+                    RETRY_AFTER.toSeconds(), e.getMessage());
+            return false;
+        }
+    }
+}
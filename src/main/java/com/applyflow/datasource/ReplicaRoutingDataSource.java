@@ -0,0 +1,163 @@
+package com.applyflow.datasource;
+
+import com.applyflow.entity.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a healthy replica, round robin, and everything else to the
+ * primary. Must sit behind a {@link LazyConnectionDataSourceProxy}: the transaction manager asks
+ * for a connection before the transaction is marked read-only, and the proxy defers the lookup
+ * until the first statement.
+ *
+ * <p>A replica that fails to hand out a connection is taken out of rotation and the read goes to
+ * the primary; {@link #checkReplicas()} puts it back once it answers again. After a user commits
+ * a write, that user's reads stay on the primary for the read-your-writes window so they do not
+ * miss their own change while the replicas catch up; see {@link RecentWriters} for where the
+ * window is kept.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final Map<String, DataSource> replicas;
+    private final List<String> replicaKeys;
+    private final Set<String> down = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger next = new AtomicInteger();
+    private final RecentWriters recentWriters;
+
+    /**
+     * @param recentWriters users whose reads stay on the primary; {@link RecentWriters#NONE}
+     *                      disables read-your-writes
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    RecentWriters recentWriters) {
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.replicaKeys = List.copyOf(replicas.keySet());
+        this.recentWriters = recentWriters;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWrite();
+            return PRIMARY;
+        }
+        if (recentWriters != RecentWriters.NONE) {
+            Long userId = currentUserId();
+            if (userId != null && recentWriters.contains(userId)) {
+                return PRIMARY;
+            }
+        }
+        return nextHealthyReplica();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (!PRIMARY.equals(key)) {
+            try {
+                return replicas.get(key).getConnection();
+            } catch (SQLException e) {
+                if (down.add((String) key)) {
+                    log.warn("Replica {} is unavailable, routing its reads to the primary: {}", key, e.getMessage());
+                }
+            }
+        }
+        return getResolvedDefaultDataSource().getConnection();
+    }
+
+    /**
+     * Validates every replica and updates which ones take reads.
+     */
+    @Scheduled(fixedDelayString = "${application.datasource.replica-health-check-ms:5000}")
+    public void checkReplicas() {
+        replicas.forEach((key, replica) -> {
+            boolean healthy;
+            try (Connection connection = replica.getConnection()) {
+                healthy = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            } catch (SQLException e) {
+                healthy = false;
+            }
+            if (healthy && down.remove(key)) {
+                log.info("Replica {} is available again", key);
+            } else if (!healthy && down.add(key)) {
+                log.warn("Replica {} failed its health check, routing its reads to the primary", key);
+            }
+        });
+    }
+
+    public List<String> healthyReplicas() {
+        List<String> healthy = new ArrayList<>(replicaKeys);
+        healthy.removeAll(down);
+        return healthy;
+    }
+
+    private Object nextHealthyReplica() {
+        int size = replicaKeys.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            String key = replicaKeys.get((start + i) % size);
+            if (!down.contains(key)) {
+                return key;
+            }
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * Starts the current user's read-your-writes window once the surrounding write transaction
+     * commits. Runs when the transaction first takes a connection, so at most once per transaction.
+     */
+    private void recordWrite() {
+        if (recentWriters == RecentWriters.NONE || !TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        Long userId = currentUserId();
+        if (userId == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.record(userId);
+            }
+        });
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return user.getId();
+        }
+        return null;
+    }
+}
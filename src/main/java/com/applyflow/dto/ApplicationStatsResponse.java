@@ -0,0 +1,20 @@
+package com.applyflow.dto;
+
+import com.applyflow.enums.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ApplicationStatsResponse {
+
+    private long total;
+    /** Every status, including those with no applications. */
+    private Map<ApplicationStatus, Long> byStatus;
+}
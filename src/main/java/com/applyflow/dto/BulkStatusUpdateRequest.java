@@ -0,0 +1,28 @@
+package com.applyflow.dto;
+
+import com.applyflow.enums.ApplicationStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkStatusUpdateRequest {
+
+    public static final int MAX_IDS = 500;
+
+    @NotEmpty(message = "At least one application id is required")
+    @Size(max = MAX_IDS, message = "At most " + MAX_IDS + " applications can be updated at once")
+    private List<@NotNull(message = "Application ids must not be null") Long> ids;
+
+    @NotNull(message = "Status is required")
+    private ApplicationStatus status;
+}
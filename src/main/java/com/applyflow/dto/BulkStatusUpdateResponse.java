@@ -0,0 +1,23 @@
+package com.applyflow.dto;
+
+import com.applyflow.enums.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkStatusUpdateResponse {
+
+    private ApplicationStatus status;
+    private List<Long> updated;
+    /** Ids that already had the requested status. */
+    private List<Long> unchanged;
+    /** Ids that do not exist or belong to another user. */
+    private List<Long> notFound;
+}
@@ -0,0 +1,30 @@
+package com.applyflow.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CacheStatsResponse {
+
+    private String name;
+    private long localSize;
+    private long localHits;
+    private long localMisses;
+    private double localHitRate;
+    private long localEvictions;
+    private Long sharedSize;
+    private Long sharedHits;
+    private Long sharedMisses;
+    private long loads;
+    private double averageLoadMillis;
+    private List<String> hottestKeys;
+}
@@ -0,0 +1,31 @@
+package com.applyflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportResult {
+
+    private long imported;
+    private long failed;
+    private List<RowError> errors;
+    /** True when more rows failed than are listed in {@link #errors}. */
+    private boolean errorsTruncated;
+    /** True when the input became unreadable part way; rows before that point were still imported. */
+    private boolean aborted;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class RowError {
+        private long line;
+        private List<String> messages;
+    }
+}
@@ -0,0 +1,42 @@
+package com.applyflow.entity;
+
+import com.applyflow.enums.ApplicationStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * How many of a user's applications are in one status, kept up to date by the writes that change
+ * it so the dashboard does not have to count {@code job_applications}.
+ */
+@Entity
+@Table(name = "application_status_counts")
+@IdClass(ApplicationStatusCount.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApplicationStatusCount {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private ApplicationStatus status;
+
+    @Column(name = "application_count", nullable = false)
+    private long count;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private Long userId;
+        private ApplicationStatus status;
+    }
+}
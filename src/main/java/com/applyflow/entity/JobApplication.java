@@ -14,7 +14,9 @@ import java.util.List;
 @Table(name = "job_applications", indexes = {
         @Index(name = "idx_application_status", columnList = "status"),
         @Index(name = "idx_application_date", columnList = "applicationDate"),
-        @Index(name = "idx_application_user", columnList = "user_id")
+        @Index(name = "idx_application_user_status_date", columnList = "user_id, status, applicationDate"),
+        @Index(name = "idx_application_user_date", columnList = "user_id, applicationDate, id"),
+        @Index(name = "idx_application_user_updated", columnList = "user_id, updatedAt")
 })
 @Getter
 @Setter
@@ -24,7 +26,8 @@ import java.util.List;
 public class JobApplication {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_applications_seq")
+    @SequenceGenerator(name = "job_applications_seq", sequenceName = "job_applications_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -8,7 +8,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "status_history", indexes = {
-        @Index(name = "idx_history_application", columnList = "job_application_id")
+        @Index(name = "idx_history_application_changed", columnList = "job_application_id, changedAt DESC")
 })
 @Getter
 @Setter
@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
 public class StatusHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "status_history_seq")
+    @SequenceGenerator(name = "status_history_seq", sequenceName = "status_history_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -8,5 +8,6 @@ public enum AuditEventType {
     JOB_UPDATED,
     JOB_DELETED,
     JOB_STATUS_CHANGED,
+    JOB_IMPORTED,
     RATE_LIMIT_EXCEEDED
 }
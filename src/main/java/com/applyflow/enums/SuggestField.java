@@ -0,0 +1,6 @@
+package com.applyflow.enums;
+
+public enum SuggestField {
+    COMPANY,
+    POSITION
+}
@@ -1,25 +1,22 @@
 package com.applyflow.event;
 
 import com.applyflow.entity.AuditLog;
-import com.applyflow.repository.AuditLogRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class AuditEventListener {
 
-    private final AuditLogRepository auditLogRepository;
+    private final AuditLogBuffer auditLogBuffer;
 
-    @Async
+    // Runs on the publishing thread: enqueueing is cheap and the buffer's writer thread does the I/O
     @EventListener
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleAuditEvent(AuditEvent event) {
         try {
             AuditLog auditLog = AuditLog.builder()
@@ -27,12 +24,14 @@ public class AuditEventListener {
                     .userId(event.getUserId())
                     .entityId(event.getEntityId())
                     .metadata(event.getMetadata())
+                    .createdAt(Instant.now())
                     .build();
 
-            auditLogRepository.save(auditLog);
-            log.debug("Audit log saved: type={}, userId={}", event.getEventType(), event.getUserId());
+            if (auditLogBuffer.enqueue(auditLog)) {
+                log.debug("Audit log queued: type={}, userId={}", event.getEventType(), event.getUserId());
+            }
         } catch (Exception e) {
-            log.error("Failed to save audit log for event {}: {}", event.getEventType(), e.getMessage());
+            log.error("Failed to queue audit log for event {}: {}", event.getEventType(), e.getMessage());
         }
     }
 }
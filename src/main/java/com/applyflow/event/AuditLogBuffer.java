@@ -0,0 +1,179 @@
+package com.applyflow.event;
+
+import com.applyflow.entity.AuditLog;
+import com.applyflow.repository.AuditLogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded in-memory queue in front of the audit_logs table. A single writer thread drains it and
+ * persists whole batches with {@code saveAll}, flushing when a batch fills up or the flush
+ * interval elapses, whichever comes first. Remaining entries are written on shutdown.
+ */
+@Component
+@Slf4j
+public class AuditLogBuffer {
+
+    // Upper bound on one poll so the writer notices shutdown without being interrupted mid-write
+    private static final long MAX_POLL_MILLIS = 200;
+
+    public enum OverflowPolicy {
+        /** Reject the entry immediately when the buffer is full. */
+        DROP,
+        /** Wait up to the offer timeout for space, then reject. */
+        BLOCK
+    }
+
+    private final AuditLogRepository auditLogRepository;
+    private final BlockingQueue<AuditLog> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final OverflowPolicy overflowPolicy;
+    private final long offerTimeoutMillis;
+
+    private final Timer flushTimer;
+    private final Counter overflowDropped;
+    private final Counter failedDropped;
+    private final Counter written;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public AuditLogBuffer(
+            AuditLogRepository auditLogRepository,
+            MeterRegistry meterRegistry,
+            @Value("${application.audit.buffer.capacity:10000}") int capacity,
+            @Value("${application.audit.buffer.batch-size:100}") int batchSize,
+            @Value("${application.audit.buffer.flush-interval-ms:1000}") long flushIntervalMillis,
+            @Value("${application.audit.buffer.overflow-policy:BLOCK}") OverflowPolicy overflowPolicy,
+            @Value("${application.audit.buffer.offer-timeout-ms:50}") long offerTimeoutMillis) {
+        this.auditLogRepository = auditLogRepository;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.overflowPolicy = overflowPolicy;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+
+        Gauge.builder("applyflow.audit.buffer.depth", queue, BlockingQueue::size)
+                .description("Audit entries waiting to be written")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("applyflow.audit.flush")
+                .description("Time taken to write one batch of audit entries")
+                .register(meterRegistry);
+        this.overflowDropped = Counter.builder("applyflow.audit.dropped")
+                .tag("reason", "overflow")
+                .description("Audit entries discarded without being written")
+                .register(meterRegistry);
+        this.failedDropped = Counter.builder("applyflow.audit.dropped")
+                .tag("reason", "write_failed")
+                .description("Audit entries discarded without being written")
+                .register(meterRegistry);
+        this.written = Counter.builder("applyflow.audit.written")
+                .description("Audit entries written to the database")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = Thread.ofPlatform().name("audit-writer").daemon(true).start(this::drainLoop);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writer == null) {
+            return;
+        }
+        writer.join(flushIntervalMillis + TimeUnit.SECONDS.toMillis(10));
+        if (writer.isAlive()) {
+            log.warn("Audit writer did not finish in time, {} entries not written", queue.size());
+        }
+    }
+
+    /**
+     * @return {@code false} if the entry was dropped because the buffer stayed full
+     */
+    public boolean enqueue(AuditLog auditLog) {
+        boolean accepted;
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            try {
+                accepted = queue.offer(auditLog, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                accepted = false;
+            }
+        } else {
+            accepted = queue.offer(auditLog);
+        }
+
+        if (!accepted) {
+            overflowDropped.increment();
+            log.warn("Audit buffer full, dropped event {}", auditLog.getEventType());
+        }
+        return accepted;
+    }
+
+    public int depth() {
+        return queue.size();
+    }
+
+    private void drainLoop() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        long deadline = System.currentTimeMillis() + flushIntervalMillis;
+        boolean interrupted = false;
+
+        while (running || !queue.isEmpty()) {
+            long wait = deadline - System.currentTimeMillis();
+            try {
+                AuditLog next = wait > 0 ? queue.poll(Math.min(wait, MAX_POLL_MILLIS), TimeUnit.MILLISECONDS) : null;
+                if (next != null) {
+                    batch.add(next);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+                running = false;
+            }
+
+            if (batch.size() >= batchSize || System.currentTimeMillis() >= deadline || !running) {
+                flush(batch);
+                deadline = System.currentTimeMillis() + flushIntervalMillis;
+            }
+        }
+        flush(batch);
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flush(List<AuditLog> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        int size = batch.size();
+        try {
+            flushTimer.record(() -> auditLogRepository.saveAll(batch));
+            written.increment(size);
+            log.debug("Flushed {} audit entries", size);
+        } catch (Exception e) {
+            failedDropped.increment(size);
+            log.error("Failed to write {} audit entries: {}", size, e.getMessage());
+        } finally {
+            batch.clear();
+        }
+    }
+}
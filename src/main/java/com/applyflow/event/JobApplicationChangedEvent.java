@@ -0,0 +1,32 @@
+package com.applyflow.event;
+
+import com.applyflow.cache.UserCacheGenerations;
+import com.applyflow.repository.ApplicationNames;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+
+/**
+ * A user's applications changed. Carries the current names of the saved applications and the ids
+ * of the deleted ones, so listeners can update derived state without reading the applications
+ * back, together with the generation bump the change was made under. Applying the same event
+ * twice gives the same result, so state that already saw the change can take it again.
+ */
+@Getter
+public class JobApplicationChangedEvent extends ApplicationEvent {
+
+    private final Long userId;
+    private final UserCacheGenerations.Change generation;
+    private final List<ApplicationNames> saved;
+    private final List<Long> deleted;
+
+    public JobApplicationChangedEvent(Object source, Long userId, UserCacheGenerations.Change generation,
+                                      List<ApplicationNames> saved, List<Long> deleted) {
+        super(source);
+        this.userId = userId;
+        this.generation = generation;
+        this.saved = saved;
+        this.deleted = deleted;
+    }
+}
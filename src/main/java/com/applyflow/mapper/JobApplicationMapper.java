@@ -4,8 +4,9 @@ import com.applyflow.dto.JobApplicationRequest;
 import com.applyflow.dto.JobApplicationResponse;
 import com.applyflow.dto.StatusHistoryResponse;
 import com.applyflow.entity.JobApplication;
-import com.applyflow.entity.StatusHistory;
 import com.applyflow.enums.ApplicationStatus;
+import com.applyflow.repository.ApplicationListRow;
+import com.applyflow.repository.StatusHistoryRow;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -38,6 +39,23 @@ public class JobApplicationMapper {
                 .build();
     }
 
+    /**
+     * Listing variant; rows carry no notes, so the field stays null.
+     */
+    public JobApplicationResponse toListResponse(ApplicationListRow row) {
+        return JobApplicationResponse.builder()
+                .id(row.id())
+                .companyName(row.companyName())
+                .position(row.position())
+                .status(row.status())
+                .applicationDate(row.applicationDate())
+                .salaryExpectation(row.salaryExpectation())
+                .contactPerson(row.contactPerson())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .build();
+    }
+
     public void updateEntity(JobApplication entity, JobApplicationRequest request) {
         entity.setCompanyName(request.getCompanyName());
         entity.setPosition(request.getPosition());
@@ -50,12 +68,12 @@ public class JobApplicationMapper {
         entity.setNotes(request.getNotes());
     }
 
-    public StatusHistoryResponse toStatusHistoryResponse(StatusHistory history) {
+    public StatusHistoryResponse toStatusHistoryResponse(StatusHistoryRow history) {
         return StatusHistoryResponse.builder()
-                .id(history.getId())
-                .previousStatus(history.getPreviousStatus())
-                .newStatus(history.getNewStatus())
-                .changedAt(history.getChangedAt())
+                .id(history.id())
+                .previousStatus(history.previousStatus())
+                .newStatus(history.newStatus())
+                .changedAt(history.changedAt())
                 .build();
     }
 }
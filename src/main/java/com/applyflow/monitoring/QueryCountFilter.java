@@ -0,0 +1,116 @@
+package com.applyflow.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the SQL statements each request runs, including the authentication lookup, and records
+ * them per endpoint as {@code applyflow.http.queries} (a histogram) and
+ * {@code applyflow.http.query.time}. With {@code application.query-count.headers} on, the totals
+ * are also sent as {@code X-Query-Count} and {@code X-Query-Time-Ms}, as they stand when the
+ * response is committed. Streamed exports only count the statements run before streaming starts.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Slf4j
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String COUNT_HEADER = "X-Query-Count";
+    public static final String TIME_HEADER = "X-Query-Time-Ms";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean headers;
+
+    public QueryCountFilter(MeterRegistry meterRegistry,
+                            @Value("${application.query-count.headers:false}") boolean headers) {
+        this.meterRegistry = meterRegistry;
+        this.headers = headers;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        QueryCounter counter = QueryCounter.start();
+        HeaderWritingResponse wrapped = headers ? new HeaderWritingResponse(response, counter) : null;
+        try {
+            filterChain.doFilter(request, wrapped != null ? wrapped : response);
+        } finally {
+            QueryCounter.stop();
+            if (wrapped != null) {
+                wrapped.writeHeaders();
+            }
+            record(request, counter);
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryCounter counter) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+        String method = request.getMethod().toUpperCase(Locale.ROOT);
+
+        DistributionSummary.builder("applyflow.http.queries")
+                .description("SQL statements run per request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(counter.getStatements());
+        Timer.builder("applyflow.http.query.time")
+                .description("Time spent executing SQL per request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(counter.getNanos(), TimeUnit.NANOSECONDS);
+        log.trace("{} {} ran {} statements in {} ms", method, uri, counter.getStatements(), counter.getMillis());
+    }
+
+    /**
+     * Adds the headers just before the response commits, which is the last moment they can be set.
+     */
+    private static final class HeaderWritingResponse extends OnCommittedResponseWrapper {
+
+        private final QueryCounter counter;
+        private boolean written;
+
+        HeaderWritingResponse(HttpServletResponse response, QueryCounter counter) {
+            super(response);
+            this.counter = counter;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeHeaders();
+        }
+
+        void writeHeaders() {
+            if (written || isCommitted()) {
+                return;
+            }
+            written = true;
+            setHeader(COUNT_HEADER, String.valueOf(counter.getStatements()));
+            setHeader(TIME_HEADER, String.format(Locale.ROOT, "%.2f", counter.getMillis()));
+        }
+    }
+}
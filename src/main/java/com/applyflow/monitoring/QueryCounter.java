@@ -0,0 +1,56 @@
+package com.applyflow.monitoring;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL statements run on the current thread while a count is active. {@link QueryCountFilter}
+ * opens one per request and {@link QueryCountingSessionListener} adds every statement and batch
+ * Hibernate executes; JDBC work outside Hibernate is not seen.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<QueryCounter> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long nanos;
+
+    private QueryCounter() {
+    }
+
+    /**
+     * Starts counting on this thread, replacing any count already open.
+     */
+    public static QueryCounter start() {
+        QueryCounter counter = new QueryCounter();
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * The open count for this thread, or {@code null} if nothing is being counted.
+     */
+    public static QueryCounter current() {
+        return CURRENT.get();
+    }
+
+    void record(long elapsedNanos) {
+        statements++;
+        nanos += elapsedNanos;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    public double getMillis() {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,41 @@
+package com.applyflow.monitoring;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Registered through {@code hibernate.session.events.auto}, so Hibernate creates one per session.
+ * Each executed statement, and each JDBC batch as a whole, counts once toward the thread's
+ * {@link QueryCounter}.
+ */
+public class QueryCountingSessionListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record(statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record(batchStart);
+    }
+
+    private static void record(long start) {
+        QueryCounter counter = QueryCounter.current();
+        if (counter != null) {
+            counter.record(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.applyflow.repository;
+
+import com.applyflow.enums.ApplicationStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One row of an application listing. Selected straight into this record, so listings skip
+ * entity hydration and the persistence context, and never read the notes column.
+ */
+public record ApplicationListRow(
+        Long id,
+        String companyName,
+        String position,
+        ApplicationStatus status,
+        LocalDate applicationDate,
+        BigDecimal salaryExpectation,
+        String contactPerson,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+}
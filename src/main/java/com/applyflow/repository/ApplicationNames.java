@@ -0,0 +1,7 @@
+package com.applyflow.repository;
+
+/**
+ * The names of one application that the autocomplete index is built from.
+ */
+public record ApplicationNames(Long id, String companyName, String position) {
+}
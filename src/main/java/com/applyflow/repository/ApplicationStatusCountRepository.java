@@ -0,0 +1,40 @@
+package com.applyflow.repository;
+
+import com.applyflow.entity.ApplicationStatusCount;
+import com.applyflow.enums.ApplicationStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ApplicationStatusCountRepository
+        extends JpaRepository<ApplicationStatusCount, ApplicationStatusCount.Key> {
+
+    List<ApplicationStatusCount> findByUserId(Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ApplicationStatusCount c WHERE c.userId = :userId ORDER BY c.status")
+    List<ApplicationStatusCount> lockByUserId(@Param("userId") Long userId);
+
+    /**
+     * Adds a zero counter unless the user already has one, without failing when a concurrent
+     * transaction adds it first. Returns the number of rows inserted.
+     */
+    @Modifying
+    @Query("INSERT INTO ApplicationStatusCount (userId, status, count) VALUES (:userId, :status, 0) "
+            + "ON CONFLICT DO NOTHING")
+    int insertIfMissing(@Param("userId") Long userId, @Param("status") ApplicationStatus status);
+
+    /**
+     * Returns the number of rows changed, 0 when the user has no counters yet.
+     */
+    @Modifying
+    @Query("UPDATE ApplicationStatusCount c SET c.count = c.count + :delta "
+            + "WHERE c.userId = :userId AND c.status = :status")
+    int adjust(@Param("userId") Long userId, @Param("status") ApplicationStatus status,
+               @Param("delta") long delta);
+}
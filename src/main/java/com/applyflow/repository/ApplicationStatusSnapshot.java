@@ -0,0 +1,9 @@
+package com.applyflow.repository;
+
+import com.applyflow.enums.ApplicationStatus;
+
+/**
+ * The columns a status transition needs, read without loading the whole entity.
+ */
+public record ApplicationStatusSnapshot(Long id, String companyName, ApplicationStatus status) {
+}
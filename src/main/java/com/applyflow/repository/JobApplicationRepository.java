@@ -3,44 +3,194 @@ package com.applyflow.repository;
 import com.applyflow.entity.JobApplication;
 import com.applyflow.entity.User;
 import com.applyflow.enums.ApplicationStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface JobApplicationRepository extends JpaRepository<JobApplication, Long> {
 
-    Page<JobApplication> findByUser(User user, Pageable pageable);
+    String EXPORT_FETCH_SIZE = "500";
 
-    Page<JobApplication> findByUserAndStatus(User user, ApplicationStatus status, Pageable pageable);
+    String LIST_ROW = "SELECT new com.applyflow.repository.ApplicationListRow(j.id, j.companyName, j.position, "
+            + "j.status, j.applicationDate, j.salaryExpectation, j.contactPerson, j.createdAt, j.updatedAt) ";
 
-    @Query("SELECT j FROM JobApplication j WHERE j.user = :user " +
+    String FILTERS = "FROM JobApplication j WHERE j.user = :user " +
             "AND (:status IS NULL OR j.status = :status) " +
-            "AND (:companyName IS NULL OR LOWER(j.companyName) LIKE LOWER(CONCAT('%', :companyName, '%'))) " +
+            "AND (:companyPattern IS NULL OR LOWER(j.companyName) LIKE :companyPattern ESCAPE '!') " +
             "AND (:startDate IS NULL OR j.applicationDate >= :startDate) " +
-            "AND (:endDate IS NULL OR j.applicationDate <= :endDate)")
-    Page<JobApplication> findByFilters(
+            "AND (:endDate IS NULL OR j.applicationDate <= :endDate) ";
+
+    /**
+     * Full-text matches of {@code query} among the user's applications with their rank, as
+     * {@code [id, rank]} rows. Postgres only: needs the {@code search_vector} column from V9.
+     */
+    String SEARCH_HITS = "SELECT j.id, ts_rank_cd(j.search_vector, q) AS rank "
+            + "FROM job_applications j, websearch_to_tsquery('english', :query) q "
+            + "WHERE j.user_id = :userId AND j.search_vector @@ q";
+
+    /**
+     * Builds the lower-cased, escaped {@code %term%} pattern the filter queries compare against
+     * {@code LOWER(companyName)}, so the trigram index on that expression can serve the search.
+     */
+    static String containsPattern(String term) {
+        if (term == null || term.isBlank()) {
+            return null;
+        }
+        String escaped = term.trim().toLowerCase(Locale.ROOT)
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return "%" + escaped + "%";
+    }
+
+    Page<JobApplication> findByUser(User user, Pageable pageable);
+
+    Page<JobApplication> findByUserAndStatus(User user, ApplicationStatus status, Pageable pageable);
+
+    @Query(value = LIST_ROW + FILTERS, countQuery = "SELECT COUNT(j) " + FILTERS)
+    Page<ApplicationListRow> findByFilters(
             @Param("user") User user,
             @Param("status") ApplicationStatus status,
-            @Param("companyName") String companyName,
+            @Param("companyPattern") String companyPattern,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate,
             Pageable pageable);
 
+    // The first date bound repeats part of the keyset condition as a plain range, which the
+    // (user, date, id) index can seek to; the OR on its own cannot be used as an index range
+    @Query(LIST_ROW + FILTERS +
+            "AND (:afterDate IS NULL OR j.applicationDate <= :afterDate) " +
+            "AND (:afterDate IS NULL OR j.applicationDate < :afterDate " +
+            "OR (j.applicationDate = :afterDate AND j.id < :afterId)) " +
+            "ORDER BY j.applicationDate DESC, j.id DESC")
+    Slice<ApplicationListRow> findByFiltersBefore(
+            @Param("user") User user,
+            @Param("status") ApplicationStatus status,
+            @Param("companyPattern") String companyPattern,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    @Query(LIST_ROW + FILTERS +
+            "AND (:afterDate IS NULL OR j.applicationDate >= :afterDate) " +
+            "AND (:afterDate IS NULL OR j.applicationDate > :afterDate " +
+            "OR (j.applicationDate = :afterDate AND j.id > :afterId)) " +
+            "ORDER BY j.applicationDate ASC, j.id ASC")
+    Slice<ApplicationListRow> findByFiltersAfter(
+            @Param("user") User user,
+            @Param("status") ApplicationStatus status,
+            @Param("companyPattern") String companyPattern,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    /**
+     * Same filters as {@link #findByFilters}, read through a forward-only cursor. Must be consumed
+     * inside a transaction and closed by the caller.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT j " + FILTERS + "ORDER BY j.applicationDate DESC, j.id DESC")
+    Stream<JobApplication> streamByFilters(
+            @Param("user") User user,
+            @Param("status") ApplicationStatus status,
+            @Param("companyPattern") String companyPattern,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
     Optional<JobApplication> findByIdAndUser(Long id, User user);
 
-    @Query("SELECT j FROM JobApplication j WHERE j.status NOT IN :excludedStatuses " +
+    /**
+     * Locks the user's rows among {@code ids} until the transaction ends, in id order so two
+     * overlapping bulk updates cannot deadlock.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.applyflow.repository.ApplicationStatusSnapshot(j.id, j.companyName, j.status) " +
+            "FROM JobApplication j WHERE j.user = :user AND j.id IN :ids ORDER BY j.id")
+    List<ApplicationStatusSnapshot> lockStatuses(@Param("user") User user, @Param("ids") Collection<Long> ids);
+
+    /**
+     * Set-based status change. Bypasses the persistence context and entity callbacks, so
+     * {@code updatedAt} is passed in.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE JobApplication j SET j.status = :status, j.updatedAt = :updatedAt " +
+            "WHERE j.user = :user AND j.id IN :ids")
+    int updateStatuses(
+            @Param("user") User user,
+            @Param("ids") Collection<Long> ids,
+            @Param("status") ApplicationStatus status,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Fetches each row's user in the same query; the reminder job reads their email for every row.
+     */
+    @Query("SELECT j FROM JobApplication j JOIN FETCH j.user WHERE j.status NOT IN :excludedStatuses " +
             "AND j.updatedAt < :staleDate")
     List<JobApplication> findStaleApplications(
             @Param("excludedStatuses") List<ApplicationStatus> excludedStatuses,
             @Param("staleDate") java.time.LocalDateTime staleDate);
 
+    @Query(value = "SELECT id, rank FROM (" + SEARCH_HITS + ") hits "
+            + "ORDER BY rank DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<Object[]> searchRanked(@Param("userId") Long userId, @Param("query") String query,
+                                @Param("limit") int limit);
+
+    @Query(value = "SELECT id, rank FROM (" + SEARCH_HITS + ") hits "
+            + "WHERE rank < :afterRank OR (rank = :afterRank AND id < :afterId) "
+            + "ORDER BY rank DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<Object[]> searchRankedAfter(@Param("userId") Long userId, @Param("query") String query,
+                                     @Param("afterRank") float afterRank, @Param("afterId") long afterId,
+                                     @Param("limit") int limit);
+
+    @Query(LIST_ROW + "FROM JobApplication j WHERE j.user = :user AND j.id IN :ids")
+    List<ApplicationListRow> findListRows(@Param("user") User user, @Param("ids") Collection<Long> ids);
+
+    /**
+     * Search without full-text support (H2): case-insensitive substring match on company,
+     * position and notes, newest id first.
+     */
+    @Query(LIST_ROW + "FROM JobApplication j WHERE j.user = :user AND j.id < :beforeId "
+            + "AND (LOWER(j.companyName) LIKE :pattern ESCAPE '!' "
+            + "OR LOWER(j.position) LIKE :pattern ESCAPE '!' "
+            + "OR LOWER(j.notes) LIKE :pattern ESCAPE '!') "
+            + "ORDER BY j.id DESC")
+    Slice<ApplicationListRow> searchContaining(@Param("user") User user, @Param("pattern") String pattern,
+                                               @Param("beforeId") long beforeId, Pageable pageable);
+
+    @Query("SELECT new com.applyflow.repository.ApplicationNames(j.id, j.companyName, j.position) "
+            + "FROM JobApplication j WHERE j.user.id = :userId")
+    List<ApplicationNames> findNamesByUserId(@Param("userId") Long userId);
+
     long countByUser(User user);
 
     long countByUserAndStatus(User user, ApplicationStatus status);
+
+    @Query("SELECT new com.applyflow.repository.StatusCount(j.status, COUNT(j)) "
+            + "FROM JobApplication j WHERE j.user.id = :userId GROUP BY j.status")
+    List<StatusCount> countByStatus(@Param("userId") Long userId);
 }
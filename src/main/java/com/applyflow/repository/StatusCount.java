@@ -0,0 +1,9 @@
+package com.applyflow.repository;
+
+import com.applyflow.enums.ApplicationStatus;
+
+/**
+ * Number of applications in one status, as counted from {@code job_applications}.
+ */
+public record StatusCount(ApplicationStatus status, long count) {
+}
@@ -1,12 +1,25 @@
 package com.applyflow.repository;
 
-import com.applyflow.entity.JobApplication;
 import com.applyflow.entity.StatusHistory;
+import com.applyflow.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface StatusHistoryRepository extends JpaRepository<StatusHistory, Long> {
 
-    List<StatusHistory> findByJobApplicationOrderByChangedAtDesc(JobApplication jobApplication);
+    /**
+     * Timelines of the user's applications among {@code ids}, newest change first, in one query
+     * that also checks ownership. Ids of other users' or missing applications produce no rows.
+     * Served by {@code idx_history_application_changed}.
+     */
+    @Query("SELECT new com.applyflow.repository.StatusHistoryRow("
+            + "j.id, h.id, h.previousStatus, h.newStatus, h.changedAt) "
+            + "FROM JobApplication j LEFT JOIN StatusHistory h ON h.jobApplication = j "
+            + "WHERE j.id IN :ids AND j.user = :user "
+            + "ORDER BY j.id, h.changedAt DESC, h.id DESC")
+    List<StatusHistoryRow> findTimelines(@Param("ids") Collection<Long> ids, @Param("user") User user);
 }
@@ -0,0 +1,17 @@
+package com.applyflow.repository;
+
+import com.applyflow.enums.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of an application's timeline. An owned application without any history still yields
+ * one row, with only {@code applicationId} set, so that it can be told apart from a missing one.
+ */
+public record StatusHistoryRow(Long applicationId, Long id, ApplicationStatus previousStatus,
+                               ApplicationStatus newStatus, LocalDateTime changedAt) {
+
+    public boolean isEmpty() {
+        return id == null;
+    }
+}
@@ -0,0 +1,38 @@
+package com.applyflow.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * {@link ScheduledJobLock} backed by {@code SET NX PX}.
+ */
+@Slf4j
+public class RedisScheduledJobLock implements ScheduledJobLock {
+
+    static final String PREFIX = "scheduled_job:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public RedisScheduledJobLock(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * Fails open: the jobs guarded by it are safe to run on several nodes, so a Redis outage only
+     * costs the duplicate work.
+     */
+    @Override
+    public boolean tryAcquire(String job, Duration lease) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(PREFIX + job, nodeId, lease));
+        } catch (DataAccessException e) {
+            log.warn("Job lock unavailable for {}, running without it: {}", job, e.getMessage());
+            return true;
+        }
+    }
+}
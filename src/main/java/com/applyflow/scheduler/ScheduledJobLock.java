@@ -0,0 +1,18 @@
+package com.applyflow.scheduler;
+
+import java.time.Duration;
+
+/**
+ * Cross-node lease that lets one node run a scheduled job while the others, whose cron fires at
+ * the same time, skip it.
+ */
+public interface ScheduledJobLock {
+
+    ScheduledJobLock NONE = (job, lease) -> true;
+
+    /**
+     * Takes the job's lease unless another node holds it. The lease is not given back when the job
+     * finishes, so that a node whose clock runs a little behind does not run the job again.
+     */
+    boolean tryAcquire(String job, Duration lease);
+}
@@ -0,0 +1,46 @@
+package com.applyflow.scheduler;
+
+import com.applyflow.repository.UserRepository;
+import com.applyflow.service.ApplicationStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Recounts every user's status counters from {@code job_applications}, one transaction per user,
+ * to repair any drift and fill in counters that are missing. Only the node that takes the
+ * {@link ScheduledJobLock} runs it.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StatusCountRebuildScheduler {
+
+    static final String JOB = "status-count-rebuild";
+
+    private final UserRepository userRepository;
+    private final ApplicationStatsService statsService;
+    private final ScheduledJobLock jobLock;
+
+    @Value("${application.stats.rebuild-lease-minutes:30}")
+    private long leaseMinutes;
+
+    @Scheduled(cron = "${application.stats.rebuild-cron}")
+    public void rebuildStatusCounts() {
+        if (!jobLock.tryAcquire(JOB, Duration.ofMinutes(leaseMinutes))) {
+            log.debug("Status counter rebuild is running on another node");
+            return;
+        }
+        int users = 0;
+        int corrected = 0;
+        for (Long userId : userRepository.findAllIds()) {
+            corrected += statsService.rebuild(userId);
+            users++;
+        }
+        log.info("Rebuilt status counters for {} users, {} corrected", users, corrected);
+    }
+}
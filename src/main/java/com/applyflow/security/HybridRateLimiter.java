@@ -0,0 +1,191 @@
+package com.applyflow.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides most requests locally from small batches of permits leased out of the shared Redis
+ * window. Leased permits are already counted in Redis, so the global limit is never exceeded.
+ * Permits still unused when a lease expires are given back to the window, so a client that sends
+ * fewer requests than a lease holds still gets its full quota. When Redis is unreachable, requests
+ * are limited per node instead of being let through.
+ */
+@Slf4j
+public class HybridRateLimiter implements RateLimiter {
+
+    private final RedisSlidingWindowRateLimiter redisLimiter;
+    private final RateLimiter fallback;
+    private final int leaseSize;
+    private final long leaseTtlNanos;
+    private final Ticker ticker;
+    private final Cache<String, Lease> leases;
+
+    private final Counter localDecisions;
+    private final Counter redisDecisions;
+    private final Counter fallbackDecisions;
+
+    public HybridRateLimiter(RedisSlidingWindowRateLimiter redisLimiter, RateLimiter fallback,
+                             int leaseSize, Duration leaseTtl, long maxKeys, MeterRegistry meterRegistry,
+                             Executor executor) {
+        this(redisLimiter, fallback, leaseSize, leaseTtl, maxKeys, meterRegistry, Ticker.systemTicker(), executor);
+    }
+
+    HybridRateLimiter(RedisSlidingWindowRateLimiter redisLimiter, RateLimiter fallback,
+                      int leaseSize, Duration leaseTtl, long maxKeys, MeterRegistry meterRegistry,
+                      Ticker ticker, Executor executor) {
+        this.redisLimiter = redisLimiter;
+        this.fallback = fallback;
+        this.leaseSize = leaseSize;
+        this.leaseTtlNanos = leaseTtl.toNanos();
+        this.ticker = ticker;
+        // Expired leases stay visible for one more TTL so the next request can hand their leftover
+        // permits back in the same script call that leases new ones; leases of clients that went
+        // quiet are dropped after that and give their permits back from the removal listener, which
+        // calls Redis and so runs on the given executor rather than the common pool.
+        this.leases = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(leaseTtl.multipliedBy(2))
+                .ticker(ticker)
+                .executor(executor)
+                .scheduler(Scheduler.systemScheduler())
+                .removalListener(this::onLeaseRemoved)
+                .build();
+        this.localDecisions = decisionCounter(meterRegistry, "local");
+        this.redisDecisions = decisionCounter(meterRegistry, "redis");
+        this.fallbackDecisions = decisionCounter(meterRegistry, "fallback");
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String key, int limit, Duration window) {
+        long now = ticker.read();
+        Lease lease = leases.getIfPresent(key);
+        if (lease != null && lease.isLive(now)) {
+            RateLimitDecision local = lease.take(now);
+            if (local != null) {
+                localDecisions.increment();
+                return local;
+            }
+        }
+        List<String> leftovers = lease != null ? lease.drain() : List.of();
+
+        RedisSlidingWindowRateLimiter.Grant grant;
+        try {
+            grant = redisLimiter.acquire(key, limit, window, batchSize(limit), leftovers);
+        } catch (Exception e) {
+            log.warn("Redis unavailable for rate limiting, using local limits: {}", e.getMessage());
+            grant = null;
+        }
+        if (grant == null) {
+            fallbackDecisions.increment();
+            return fallback.tryAcquire(key, limit, window);
+        }
+
+        redisDecisions.increment();
+        RateLimitDecision decision = grant.decision();
+        // A denial is cached too, so a blocked client does not cost a Redis call per request
+        long ttl = Math.min(leaseTtlNanos, Duration.ofMillis(Math.max(decision.resetMillis(), 1)).toNanos());
+        Lease renewed = new Lease(grant, now, now + ttl);
+        Lease installed = leases.asMap().compute(key,
+                (k, current) -> current != null && current != lease && current.isLive(now) ? current : renewed);
+        if (installed != renewed) {
+            // Another request renewed this key at the same time; keep its lease and return ours
+            release(key, renewed);
+        }
+        return decision;
+    }
+
+    /**
+     * Small limits (such as auth endpoints) lease one permit at a time so that a single node cannot
+     * sit on a large share of them.
+     */
+    private int batchSize(int limit) {
+        return Math.max(1, Math.min(leaseSize, limit / 10));
+    }
+
+    private void onLeaseRemoved(String key, Lease lease, RemovalCause cause) {
+        if (key != null && lease != null) {
+            release(key, lease);
+        }
+    }
+
+    private void release(String key, Lease lease) {
+        List<String> leftovers = lease.drain();
+        if (leftovers.isEmpty()) {
+            return;
+        }
+        try {
+            redisLimiter.release(key, leftovers);
+        } catch (Exception e) {
+            // The permits simply stay counted until they slide out of the window
+            log.warn("Could not return {} leased permits for {}: {}", leftovers.size(), key, e.getMessage());
+        }
+    }
+
+    private static Counter decisionCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("applyflow.ratelimit.decisions")
+                .tag("source", source)
+                .description("Rate limit decisions by where they were made")
+                .register(meterRegistry);
+    }
+
+    private static final class Lease {
+        private final RedisSlidingWindowRateLimiter.Grant grant;
+        private final AtomicLong tokens;
+        private final long leasedAtNanos;
+        private final long expiresAtNanos;
+
+        private Lease(RedisSlidingWindowRateLimiter.Grant grant, long leasedAtNanos, long expiresAtNanos) {
+            this.grant = grant;
+            // The permit that triggered the lease is used straight away
+            this.tokens = new AtomicLong(Math.max(grant.granted() - 1, 0));
+            this.leasedAtNanos = leasedAtNanos;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isLive(long now) {
+            return now < expiresAtNanos;
+        }
+
+        /**
+         * @return a local decision, or {@code null} if the lease is used up and Redis must be asked
+         */
+        private RateLimitDecision take(long now) {
+            RateLimitDecision leasedWith = grant.decision();
+            long elapsedMillis = (now - leasedAtNanos) / 1_000_000;
+            long resetMillis = Math.max(leasedWith.resetMillis() - elapsedMillis, 0);
+            if (!leasedWith.allowed()) {
+                return new RateLimitDecision(false, leasedWith.count(), 0, resetMillis);
+            }
+            long left = tokens.decrementAndGet();
+            if (left < 0) {
+                return null;
+            }
+            return new RateLimitDecision(true, leasedWith.count(), leasedWith.remaining() + left, resetMillis);
+        }
+
+        /**
+         * Takes every permit still held, so that exactly one caller gives them back.
+         *
+         * @return the window entries of the permits that were never used
+         */
+        private List<String> drain() {
+            long unused = Math.max(tokens.getAndSet(0), 0);
+            if (unused == 0) {
+                return List.of();
+            }
+            // Entries are interchangeable (same score), so the last ones stand for the unused permits
+            return grant.members(grant.granted() - unused + 1, grant.granted());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.applyflow.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process fixed-window limiter. Limits apply per node, so it is only used when Redis cannot
+ * be reached and failing closed per node is preferable to not limiting at all. Each node admits its
+ * share of the limit ({@code limit / nodes}, at least one), so the cluster as a whole stays close to
+ * the global limit while Redis is down.
+ */
+public class LocalWindowRateLimiter implements RateLimiter {
+
+    private final Cache<String, Window> windows;
+    private final int nodes;
+
+    public LocalWindowRateLimiter(long maxKeys) {
+        this(maxKeys, 1);
+    }
+
+    public LocalWindowRateLimiter(long maxKeys, int nodes) {
+        this.nodes = Math.max(nodes, 1);
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String key, int globalLimit, Duration window) {
+        int limit = Math.max(globalLimit / nodes, 1);
+        long now = System.nanoTime();
+        long windowNanos = window.toNanos();
+        Window current = windows.asMap().compute(key, (k, existing) ->
+                existing == null || now - existing.startNanos >= windowNanos ? new Window(now) : existing);
+
+        long count = current.count.incrementAndGet();
+        long resetMillis = Math.max(0, (current.startNanos + windowNanos - now) / 1_000_000);
+        boolean allowed = count <= limit;
+        return new RateLimitDecision(allowed, Math.min(count, limit), Math.max(limit - count, 0), resetMillis);
+    }
+
+    private static final class Window {
+        private final long startNanos;
+        private final AtomicLong count = new AtomicLong();
+
+        private Window(long startNanos) {
+            this.startNanos = startNanos;
+        }
+    }
+}
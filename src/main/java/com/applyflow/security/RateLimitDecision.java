@@ -0,0 +1,16 @@
+package com.applyflow.security;
+
+/**
+ * Outcome of one rate limit check.
+ *
+ * @param allowed      whether the request may proceed
+ * @param count        requests counted in the current window, including this one if allowed
+ * @param remaining    requests still allowed in the window
+ * @param resetMillis  time until the oldest counted request leaves the window
+ */
+public record RateLimitDecision(boolean allowed, long count, long remaining, long resetMillis) {
+
+    public long resetSeconds() {
+        return Math.max(1, (resetMillis + 999) / 1000);
+    }
+}
@@ -6,9 +6,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.lang.NonNull;
@@ -16,18 +14,18 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 @Component
 @Slf4j
 public class RateLimitFilter extends OncePerRequestFilter {
 
-    private static final String RATE_LIMIT_PREFIX = "rate_limit:";
-    private static final long WINDOW_SECONDS = 60;
+    private static final String RATE_LIMIT_PREFIX = "rate_limit:sw:";
+    private static final Duration WINDOW = Duration.ofMinutes(1);
 
-    private final StringRedisTemplate redisTemplate;
+    private final RateLimiter rateLimiter;
     private final ObjectMapper objectMapper;
 
     @Value("${application.rate-limit.requests-per-minute}")
@@ -36,8 +34,8 @@ public class RateLimitFilter extends OncePerRequestFilter {
     @Value("${application.rate-limit.auth-requests-per-minute}")
     private int authRequestsPerMinute;
 
-    public RateLimitFilter(@Autowired(required = false) StringRedisTemplate redisTemplate) {
-        this.redisTemplate = redisTemplate;
+    public RateLimitFilter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
         this.objectMapper = new ObjectMapper();
     }
 
@@ -62,30 +60,19 @@ public class RateLimitFilter extends OncePerRequestFilter {
     private boolean isRateLimited(String key, int limit,
             HttpServletResponse response,
             HttpServletRequest request) throws IOException {
-        if (redisTemplate == null) {
-            return false; // fail-open: no Redis available
-        }
         try {
-            Long currentCount = redisTemplate.opsForValue().increment(key);
-            if (currentCount == null) {
-                log.warn("Redis INCR returned null for key: {}", key);
-                return false; // fail-open
-            }
-
-            if (currentCount == 1L) {
-                redisTemplate.expire(key, WINDOW_SECONDS, TimeUnit.SECONDS);
+            RateLimitDecision decision = rateLimiter.tryAcquire(key, limit, WINDOW);
+            if (decision == null) {
+                return false; // fail-open: no Redis available
             }
 
-            if (currentCount > limit) {
-                Long ttl = redisTemplate.getExpire(key, TimeUnit.SECONDS);
-                long retryAfter = (ttl != null && ttl > 0) ? ttl : WINDOW_SECONDS;
-
-                writeRateLimitResponse(response, request, retryAfter);
-                log.warn("Rate limit exceeded for key: {} (count: {}, limit: {})", key, currentCount, limit);
+            if (!decision.allowed()) {
+                writeRateLimitResponse(response, request, decision.resetSeconds());
+                log.warn("Rate limit exceeded for key: {} (count: {}, limit: {})", key, decision.count(), limit);
                 return true;
             }
 
-            addRateLimitHeaders(response, limit, (int) (limit - currentCount));
+            addRateLimitHeaders(response, limit, decision);
             return false;
 
         } catch (Exception e) {
@@ -110,9 +97,10 @@ public class RateLimitFilter extends OncePerRequestFilter {
                 "retryAfter", retryAfter)));
     }
 
-    private void addRateLimitHeaders(HttpServletResponse response, int limit, int remaining) {
+    private void addRateLimitHeaders(HttpServletResponse response, int limit, RateLimitDecision decision) {
         response.setHeader("X-RateLimit-Limit", String.valueOf(limit));
-        response.setHeader("X-RateLimit-Remaining", String.valueOf(Math.max(0, remaining)));
+        response.setHeader("X-RateLimit-Remaining", String.valueOf(Math.max(0, decision.remaining())));
+        response.setHeader("X-RateLimit-Reset", String.valueOf(decision.resetSeconds()));
     }
 
     private String getClientIp(HttpServletRequest request) {
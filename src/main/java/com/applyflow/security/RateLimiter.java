@@ -0,0 +1,14 @@
+package com.applyflow.security;
+
+import java.time.Duration;
+
+public interface RateLimiter {
+
+    /**
+     * Counts one request against {@code key} and decides whether it is within {@code limit}
+     * requests per {@code window}.
+     *
+     * @return the decision, or {@code null} if no backing store is available
+     */
+    RateLimitDecision tryAcquire(String key, int limit, Duration window);
+}
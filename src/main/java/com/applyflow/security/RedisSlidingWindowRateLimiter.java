@@ -0,0 +1,108 @@
+package com.applyflow.security;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sliding-window limiter backed by a single Lua script: trimming, counting, recording the request,
+ * setting the expiry and computing the reset time all happen in one atomic round trip.
+ */
+public class RedisSlidingWindowRateLimiter implements RateLimiter {
+
+    private static final String SCRIPT_LOCATION = "scripts/rate_limit_sliding_window.lua";
+
+    private final StringRedisTemplate redisTemplate;
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> script;
+
+    public RedisSlidingWindowRateLimiter(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.script = RedisScript.of(loadScript(), List.class);
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String key, int limit, Duration window) {
+        Grant grant = acquire(key, limit, window, 1, List.of());
+        return grant != null ? grant.decision() : null;
+    }
+
+    /**
+     * Takes up to {@code permits} slots from the window in one call, first giving back the
+     * {@code released} slots of an earlier grant that were never used.
+     *
+     * @return the number of slots granted with the window state, or {@code null} if no Redis is configured
+     */
+    Grant acquire(String key, int limit, Duration window, int permits, List<String> released) {
+        if (redisTemplate == null) {
+            return null;
+        }
+        String member = Long.toString(System.nanoTime(), 36) + ':'
+                + Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+        List<String> args = new ArrayList<>(4 + released.size());
+        args.add(String.valueOf(limit));
+        args.add(String.valueOf(window.toMillis()));
+        args.add(member);
+        args.add(String.valueOf(permits));
+        args.addAll(released);
+        List<?> result = redisTemplate.execute(script, List.of(key), args.toArray());
+        if (result == null || result.size() < 4) {
+            return null;
+        }
+        long granted = toLong(result.get(0));
+        return new Grant(granted, member, new RateLimitDecision(
+                granted > 0,
+                toLong(result.get(1)),
+                toLong(result.get(2)),
+                toLong(result.get(3))));
+    }
+
+    /**
+     * Gives back granted slots that were never used, so they count against the window no longer.
+     */
+    void release(String key, List<String> members) {
+        if (redisTemplate == null || members.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForZSet().remove(key, members.toArray());
+    }
+
+    /**
+     * @param member prefix of the window entries written for this grant; entry {@code i} (1-based)
+     *               is {@code member + ":" + i}
+     */
+    record Grant(long granted, String member, RateLimitDecision decision) {
+
+        List<String> members(long fromIndex, long toIndex) {
+            List<String> members = new ArrayList<>();
+            for (long i = fromIndex; i <= toIndex; i++) {
+                members.add(member + ':' + i);
+            }
+            return members;
+        }
+    }
+
+    private static String loadScript() {
+        ClassPathResource resource = new ClassPathResource(
+                SCRIPT_LOCATION, RedisSlidingWindowRateLimiter.class.getClassLoader());
+        try (InputStream in = resource.getInputStream()) {
+            return StreamUtils.copyToString(in, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load " + SCRIPT_LOCATION, e);
+        }
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(value.toString());
+    }
+}
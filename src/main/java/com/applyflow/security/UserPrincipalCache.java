@@ -0,0 +1,57 @@
+package com.applyflow.security;
+
+import com.applyflow.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Node-local state for the JWT filter: an optional cache of loaded principals and the minimum
+ * token version accepted per user. Revocations only need to outlive the access tokens they
+ * reject, so they expire after the access token lifetime.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final Cache<String, User> principals;
+    private final Cache<Long, Integer> minimumTokenVersions;
+    private final boolean principalCacheEnabled;
+
+    public UserPrincipalCache(
+            @Value("${application.security.jwt.principal-cache.max-size:0}") long maxSize,
+            @Value("${application.security.jwt.principal-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${application.security.jwt.expiration}") long jwtExpiration) {
+        this.principalCacheEnabled = maxSize > 0;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxSize, 0))
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.minimumTokenVersions = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofMillis(Math.max(jwtExpiration, 1)))
+                .build();
+    }
+
+    public User get(String email) {
+        return principalCacheEnabled ? principals.getIfPresent(email) : null;
+    }
+
+    public void put(User user) {
+        if (principalCacheEnabled) {
+            principals.put(user.getEmail(), user);
+        }
+    }
+
+    public boolean isRevoked(Long userId, int tokenVersion) {
+        Integer minimumVersion = minimumTokenVersions.getIfPresent(userId);
+        return minimumVersion != null && tokenVersion < minimumVersion;
+    }
+
+    public void revoke(Long userId, String email, int currentTokenVersion) {
+        minimumTokenVersions.asMap().merge(userId, currentTokenVersion, Math::max);
+        principals.invalidate(email);
+    }
+}
@@ -0,0 +1,131 @@
+package com.applyflow.service;
+
+import com.applyflow.dto.ApplicationStatsResponse;
+import com.applyflow.entity.ApplicationStatusCount;
+import com.applyflow.enums.ApplicationStatus;
+import com.applyflow.repository.ApplicationStatusCountRepository;
+import com.applyflow.repository.JobApplicationRepository;
+import com.applyflow.repository.StatusCount;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Per-user application counts by status, read from {@code application_status_counts} in one
+ * lookup. The writes that create, delete or move applications adjust the counters in their own
+ * transaction; {@link #rebuild} recounts a user's applications as a repair.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationStatsService {
+
+    private final ApplicationStatusCountRepository countRepository;
+    private final JobApplicationRepository applicationRepository;
+    private final EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public ApplicationStatsResponse getStats(Long userId) {
+        Map<ApplicationStatus, Long> byStatus = zeroCounts();
+        var counters = countRepository.findByUserId(userId);
+        if (counters.isEmpty()) {
+            // no counters until the user's first write or the next rebuild
+            applicationRepository.countByStatus(userId)
+                    .forEach(count -> byStatus.put(count.status(), count.count()));
+        } else {
+            counters.forEach(counter -> byStatus.put(counter.getStatus(), counter.getCount()));
+        }
+        return ApplicationStatsResponse.builder()
+                .total(byStatus.values().stream().mapToLong(Long::longValue).sum())
+                .byStatus(byStatus)
+                .build();
+    }
+
+    /**
+     * Creates a new user's counters, all zero.
+     */
+    @Transactional
+    public void initialize(Long userId) {
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            entityManager.persist(new ApplicationStatusCount(userId, status, 0));
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void adjust(Long userId, ApplicationStatus status, long delta) {
+        adjust(userId, Map.of(status, delta));
+    }
+
+    /**
+     * Applies the deltas inside the caller's transaction. Counters are updated in status name
+     * order, the same order {@link #rebuild} locks them in, so concurrent writers cannot deadlock.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void adjust(Long userId, Map<ApplicationStatus, Long> deltas) {
+        Map<ApplicationStatus, Long> ordered = new TreeMap<>(Comparator.comparing(ApplicationStatus::name));
+        ordered.putAll(deltas);
+        for (Map.Entry<ApplicationStatus, Long> delta : ordered.entrySet()) {
+            if (delta.getValue() != 0 && countRepository.adjust(userId, delta.getKey(), delta.getValue()) == 0) {
+                // counters missing: recount, which already includes this transaction's changes
+                rebuild(userId);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Recounts one user's applications and corrects their counters. Missing counters are added
+     * first with an insert that skips rows a concurrent transaction added, so two first writes for
+     * the same user cannot fail on the primary key. Locks the counters before counting, so a write
+     * that committed first is counted and one that commits later is added on top. Returns how many
+     * counters were wrong or missing.
+     */
+    @Transactional
+    public int rebuild(Long userId) {
+        Set<ApplicationStatus> missing = EnumSet.noneOf(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            if (countRepository.insertIfMissing(userId, status) > 0) {
+                missing.add(status);
+            }
+        }
+        Map<ApplicationStatus, Long> actual = zeroCounts();
+        List<ApplicationStatusCount> counters = countRepository.lockByUserId(userId);
+        for (StatusCount count : applicationRepository.countByStatus(userId)) {
+            actual.put(count.status(), count.count());
+        }
+
+        int corrected = missing.size();
+        for (ApplicationStatusCount counter : counters) {
+            long expected = actual.get(counter.getStatus());
+            if (counter.getCount() == expected) {
+                continue;
+            }
+            if (!missing.contains(counter.getStatus())) {
+                log.warn("Corrected {} count for user {} from {} to {}",
+                        counter.getStatus(), userId, counter.getCount(), expected);
+                corrected++;
+            }
+            counter.setCount(expected);
+        }
+        return corrected;
+    }
+
+    private static Map<ApplicationStatus, Long> zeroCounts() {
+        Map<ApplicationStatus, Long> counts = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            counts.put(status, 0L);
+        }
+        return counts;
+    }
+}
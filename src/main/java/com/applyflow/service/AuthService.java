@@ -14,6 +14,7 @@ import com.applyflow.exception.ResourceNotFoundException;
 import com.applyflow.repository.RefreshTokenRepository;
 import com.applyflow.repository.UserRepository;
 import com.applyflow.security.JwtService;
+import com.applyflow.security.UserPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -41,6 +42,8 @@ public class AuthService {
         private final AuthenticationManager authenticationManager;
         private final EmailService emailService;
         private final AuditEventPublisher auditEventPublisher;
+        private final UserPrincipalCache principalCache;
+        private final ApplicationStatsService statsService;
 
         @Transactional
         public AuthResponse register(RegisterRequest request) {
@@ -56,6 +59,7 @@ public class AuthService {
                                 .build();
 
                 userRepository.save(user);
+                statsService.initialize(user.getId());
                 emailService.sendWelcomeEmail(user.getEmail(), user.getName());
                 auditEventPublisher.publish(AuditEventType.USER_REGISTERED, user.getId());
 
@@ -81,7 +85,6 @@ public class AuthService {
                 User user = userRepository.findByEmail(request.getEmail().toLowerCase())
                                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-                String token = jwtService.generateToken(user);
                 auditEventPublisher.publish(AuditEventType.USER_LOGGED_IN, user.getId());
                 String accessToken = jwtService.generateToken(user);
                 String rawRefreshToken = generateAndPersistRefreshToken(user);
@@ -138,9 +141,21 @@ public class AuthService {
         @Transactional
         public void logout(User user) {
                 refreshTokenRepository.revokeAllByUser(user);
+                revokeAccessTokens(user);
                 log.info("User logged out, all refresh tokens revoked: {}", user.getEmail());
         }
 
+        /**
+         * Invalidates every access token issued so far. Must also be called whenever a user's
+         * role changes so that stateless principals pick up the new authorities.
+         */
+        @Transactional
+        public void revokeAccessTokens(User user) {
+                userRepository.incrementTokenVersion(user.getId());
+                int tokenVersion = userRepository.findTokenVersionById(user.getId());
+                principalCache.revoke(user.getId(), user.getEmail(), tokenVersion);
+        }
+
         private String generateAndPersistRefreshToken(User user) {
                 String rawToken = UUID.randomUUID().toString();
                 String tokenHash = hashToken(rawToken);
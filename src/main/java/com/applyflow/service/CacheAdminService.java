@@ -0,0 +1,89 @@
+package com.applyflow.service;
+
+import com.applyflow.cache.TwoLevelCache;
+import com.applyflow.cache.TwoLevelCacheManager;
+import com.applyflow.dto.CacheStatsResponse;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheAdminService {
+
+    private static final int SCAN_BATCH = 1000;
+
+    private final CacheManager cacheManager;
+    private final ObjectProvider<StringRedisTemplate> redisTemplate;
+
+    public List<CacheStatsResponse> getCacheStats(int hottestKeys) {
+        if (!(cacheManager instanceof TwoLevelCacheManager twoLevelCacheManager)) {
+            return List.of();
+        }
+        return twoLevelCacheManager.getCaches().stream()
+                .sorted(Comparator.comparing(TwoLevelCache::getName))
+                .map(cache -> toResponse(cache, hottestKeys))
+                .toList();
+    }
+
+    private CacheStatsResponse toResponse(TwoLevelCache cache, int hottestKeys) {
+        CacheStats local = cache.getLocalCache().stats();
+        CacheStatsResponse.CacheStatsResponseBuilder response = CacheStatsResponse.builder()
+                .name(cache.getName())
+                .localSize(cache.getLocalCache().estimatedSize())
+                .localHits(local.hitCount())
+                .localMisses(local.missCount())
+                .localHitRate(local.hitRate())
+                .localEvictions(local.evictionCount())
+                .loads(cache.getLoadTimer().count())
+                .averageLoadMillis(cache.getLoadTimer().mean(TimeUnit.MILLISECONDS))
+                .hottestKeys(cache.hottestKeys(hottestKeys).stream().map(String::valueOf).toList());
+
+        if (cache.getSharedCache() instanceof RedisCache shared) {
+            CacheStatistics statistics = shared.getStatistics();
+            response.sharedHits(statistics.getHits())
+                    .sharedMisses(statistics.getMisses())
+                    .sharedSize(countSharedKeys(shared));
+        }
+        return response.build();
+    }
+
+    /**
+     * Counts the cache's keys with SCAN; cost grows with the size of the Redis keyspace, so this is
+     * for occasional admin use only.
+     */
+    private Long countSharedKeys(RedisCache cache) {
+        StringRedisTemplate template = redisTemplate.getIfAvailable();
+        if (template == null) {
+            return null;
+        }
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(cache.getCacheConfiguration().getKeyPrefixFor(cache.getName()) + "*")
+                .count(SCAN_BATCH)
+                .build();
+        try (Cursor<String> keys = template.scan(options)) {
+            long count = 0;
+            while (keys.hasNext()) {
+                keys.next();
+                count++;
+            }
+            return count;
+        } catch (RuntimeException e) {
+            log.warn("Could not count keys of cache {}", cache.getName(), e);
+            return null;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.applyflow.service;
 
+import com.applyflow.config.AsyncConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -8,6 +9,8 @@ import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -21,7 +24,7 @@ public class EmailService {
     @Value("${spring.mail.username:noreply@applyflow.com}")
     private String fromEmail;
 
-    @Async
+    @Async(AsyncConfig.EMAIL_EXECUTOR)
     public void sendStatusChangeNotification(String to, String companyName,
             String previousStatus, String newStatus) {
         String subject = "ApplyFlow - Application Status Updated";
@@ -36,7 +39,23 @@ public class EmailService {
         sendEmail(to, subject, body);
     }
 
-    @Async
+    /**
+     * One message for a bulk status change; {@code changes} holds a "Company: OLD -> NEW" line
+     * per application.
+     */
+    @Async(AsyncConfig.EMAIL_EXECUTOR)
+    public void sendStatusChangeDigest(String to, String newStatus, List<String> changes) {
+        String subject = "ApplyFlow - " + changes.size() + " Application Statuses Updated";
+        String body = String.format(
+                "%d of your applications were moved to %s.%n%n" +
+                        "%s%n%n" +
+                        "Log in to ApplyFlow for more details.",
+                changes.size(), newStatus, String.join(System.lineSeparator(), changes));
+
+        sendEmail(to, subject, body);
+    }
+
+    @Async(AsyncConfig.EMAIL_EXECUTOR)
     public void sendReminderNotification(String to, String companyName,
             String position, long staleDays) {
         String subject = "ApplyFlow - Application Reminder";
@@ -50,7 +69,7 @@ public class EmailService {
         sendEmail(to, subject, body);
     }
 
-    @Async
+    @Async(AsyncConfig.EMAIL_EXECUTOR)
     public void sendWelcomeEmail(String to, String name) {
         String subject = "Welcome to ApplyFlow!";
         String body = String.format(
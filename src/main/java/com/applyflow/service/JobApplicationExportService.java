@@ -0,0 +1,121 @@
+package com.applyflow.service;
+
+import com.applyflow.dto.JobApplicationResponse;
+import com.applyflow.entity.JobApplication;
+import com.applyflow.entity.User;
+import com.applyflow.enums.ApplicationStatus;
+import com.applyflow.enums.ExportFormat;
+import com.applyflow.mapper.JobApplicationMapper;
+import com.applyflow.repository.JobApplicationRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes a user's applications row by row from a database cursor, so the export never holds
+ * more than one fetch batch in memory.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobApplicationExportService {
+
+    private static final String CSV_HEADER = "id,companyName,position,status,applicationDate,"
+            + "salaryExpectation,contactPerson,notes,createdAt,updatedAt";
+    static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final JobApplicationRepository applicationRepository;
+    private final JobApplicationMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public long export(
+            User user,
+            ApplicationStatus status,
+            String companyName,
+            LocalDate startDate,
+            LocalDate endDate,
+            ExportFormat format,
+            OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        ObjectWriter jsonWriter = objectMapper.writerFor(JobApplicationResponse.class);
+        long rows = 0;
+
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<JobApplication> applications = applicationRepository.streamByFilters(
+                user, status, JobApplicationRepository.containsPattern(companyName), startDate, endDate)) {
+            Iterator<JobApplication> iterator = applications.iterator();
+            while (iterator.hasNext()) {
+                JobApplication application = iterator.next();
+                JobApplicationResponse response = mapper.toResponse(application);
+                entityManager.detach(application);
+
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, response);
+                } else {
+                    writer.write(jsonWriter.writeValueAsString(response));
+                    writer.write('\n');
+                }
+                rows++;
+            }
+        }
+
+        writer.flush();
+        log.debug("Exported {} applications for user {} as {}", rows, user.getId(), format);
+        return rows;
+    }
+
+    private void writeCsvRow(Writer writer, JobApplicationResponse response) throws IOException {
+        writer.write(String.valueOf(response.getId()));
+        writeCsvField(writer, response.getCompanyName());
+        writeCsvField(writer, response.getPosition());
+        writeCsvField(writer, response.getStatus());
+        writeCsvField(writer, response.getApplicationDate());
+        writeCsvField(writer, response.getSalaryExpectation() != null
+                ? response.getSalaryExpectation().toPlainString() : null);
+        writeCsvField(writer, response.getContactPerson());
+        writeCsvField(writer, response.getNotes());
+        writeCsvField(writer, response.getCreatedAt());
+        writeCsvField(writer, response.getUpdatedAt());
+        writer.write('\n');
+    }
+
+    private void writeCsvField(Writer writer, Object value) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (!text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+            // Spreadsheets run cells that start like a formula; a leading quote keeps them as text
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+        } else {
+            writer.write(text);
+        }
+    }
+}
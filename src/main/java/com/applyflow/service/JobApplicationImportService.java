@@ -0,0 +1,289 @@
+package com.applyflow.service;
+
+import com.applyflow.cache.UserCacheGenerations;
+import com.applyflow.dto.ImportResult;
+import com.applyflow.dto.JobApplicationRequest;
+import com.applyflow.entity.JobApplication;
+import com.applyflow.entity.User;
+import com.applyflow.enums.ApplicationStatus;
+import com.applyflow.enums.AuditEventType;
+import com.applyflow.enums.ExportFormat;
+import com.applyflow.event.AuditEventPublisher;
+import com.applyflow.exception.BadRequestException;
+import com.applyflow.mapper.JobApplicationMapper;
+import com.applyflow.repository.JobApplicationRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Imports applications from a CSV or NDJSON stream. Rows are parsed and validated one at a time
+ * and written in chunks, each in its own transaction, so memory use depends on the chunk size
+ * rather than the file size. A chunk that fails to save is reported and skipped; earlier chunks
+ * stay committed. CSV columns are matched by header name, so files produced by the export can be
+ * imported as they are, including the quote the export puts in front of formula-like cells.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobApplicationImportService {
+
+    static final int CHUNK_SIZE = 500;
+    static final int MAX_REPORTED_ERRORS = 100;
+    static final int MAX_ROW_CHARS = 16_384;
+
+    private final JobApplicationRepository applicationRepository;
+    private final JobApplicationMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final AuditEventPublisher auditEventPublisher;
+    private final UserCacheGenerations cacheGenerations;
+    private final ApplicationStatsService statsService;
+
+    public ImportResult importApplications(User user, ExportFormat format, InputStream inputStream)
+            throws IOException {
+        Reader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        Batch batch = new Batch(user);
+        boolean aborted = false;
+        boolean completed = false;
+        // Chunks commit as they go, so whatever ends the import early, the rows already written
+        // must still reach the caches and the audit log
+        try {
+            try {
+                if (format == ExportFormat.CSV) {
+                    readCsv(reader, batch);
+                } else {
+                    readNdjson(reader, batch);
+                }
+            } catch (CsvRecordReader.MalformedRecordException e) {
+                batch.reject(e.getLine(), List.of(e.getMessage() + "; the rest of the input was not read"));
+                aborted = true;
+            }
+            batch.flush();
+            completed = true;
+        } finally {
+            if (batch.imported > 0) {
+                cacheGenerations.bump(user.getId());
+            }
+            if (completed || batch.imported > 0) {
+                log.info("Imported {} applications for user {} ({} rows failed{})", batch.imported, user.getId(),
+                        batch.failed, completed ? "" : ", interrupted");
+                auditEventPublisher.publish(AuditEventType.JOB_IMPORTED, user.getId(), null,
+                        "imported=" + batch.imported + ", failed=" + batch.failed + ", format=" + format
+                                + (completed ? "" : ", interrupted=true"));
+            }
+        }
+
+        return ImportResult.builder()
+                .imported(batch.imported)
+                .failed(batch.failed)
+                .errors(batch.errors)
+                .errorsTruncated(batch.failed > batch.errors.size())
+                .aborted(aborted)
+                .build();
+    }
+
+    private void readCsv(Reader reader, Batch batch) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(reader, MAX_ROW_CHARS);
+        List<String> header = csv.next();
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            // spreadsheet exports often start with a byte order mark
+            columns.put(header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("companyname") || !columns.containsKey("position")) {
+            throw new BadRequestException("CSV header must include companyName and position columns");
+        }
+
+        List<String> fields;
+        while ((fields = csv.next()) != null) {
+            if (fields.stream().allMatch(String::isBlank)) {
+                continue;
+            }
+            List<String> errors = new ArrayList<>();
+            JobApplicationRequest request = JobApplicationRequest.builder()
+                    .companyName(field(fields, columns, "companyname"))
+                    .position(field(fields, columns, "position"))
+                    .status(parse(field(fields, columns, "status"), "status", errors,
+                            value -> ApplicationStatus.valueOf(value.toUpperCase(Locale.ROOT))))
+                    .applicationDate(parse(field(fields, columns, "applicationdate"), "applicationDate", errors,
+                            LocalDate::parse))
+                    .salaryExpectation(parse(field(fields, columns, "salaryexpectation"), "salaryExpectation",
+                            errors, BigDecimal::new))
+                    .contactPerson(field(fields, columns, "contactperson"))
+                    .notes(field(fields, columns, "notes"))
+                    .build();
+            batch.add(csv.recordLine(), request, errors);
+        }
+    }
+
+    private void readNdjson(Reader reader, Batch batch) throws IOException {
+        ObjectReader jsonReader = objectMapper.readerFor(JobApplicationRequest.class);
+        StringBuilder line = new StringBuilder();
+        long lineNumber = 0;
+        while (readLine(reader, line, lineNumber + 1)) {
+            lineNumber++;
+            if (line.toString().isBlank()) {
+                continue;
+            }
+            JobApplicationRequest request;
+            try {
+                request = jsonReader.readValue(line.toString());
+            } catch (JsonProcessingException e) {
+                batch.reject(lineNumber, List.of("Malformed JSON: " + e.getOriginalMessage()));
+                continue;
+            }
+            if (request == null) {
+                batch.reject(lineNumber, List.of("Row must be a JSON object"));
+            } else {
+                batch.add(lineNumber, request, new ArrayList<>());
+            }
+        }
+    }
+
+    private static boolean readLine(Reader reader, StringBuilder line, long lineNumber) throws IOException {
+        line.setLength(0);
+        int c = reader.read();
+        if (c == -1) {
+            return false;
+        }
+        while (c != -1 && c != '\n') {
+            if (line.length() == MAX_ROW_CHARS) {
+                throw new CsvRecordReader.MalformedRecordException(lineNumber,
+                        "Line exceeds " + MAX_ROW_CHARS + " characters");
+            }
+            if (c != '\r') {
+                line.append((char) c);
+            }
+            c = reader.read();
+        }
+        return true;
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size() || fields.get(index).isBlank()) {
+            return null;
+        }
+        String value = fields.get(index);
+        if (value.length() > 1 && value.charAt(0) == '\''
+                && JobApplicationExportService.FORMULA_PREFIXES.indexOf(value.charAt(1)) >= 0) {
+            // Undo the export's formula guard so a round trip keeps the original text
+            value = value.substring(1);
+        }
+        return value.trim();
+    }
+
+    private static <T> T parse(String value, String name, List<String> errors, ValueParser<T> parser) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return parser.parse(value);
+        } catch (RuntimeException e) {
+            errors.add("Invalid " + name + ": " + value);
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ValueParser<T> {
+        T parse(String value);
+    }
+
+    /**
+     * Valid rows waiting to be written, plus the running totals and the capped error report.
+     */
+    private class Batch {
+
+        private final User user;
+        private final List<JobApplication> pending = new ArrayList<>(CHUNK_SIZE);
+        private final List<Long> pendingLines = new ArrayList<>(CHUNK_SIZE);
+        private final List<ImportResult.RowError> errors = new ArrayList<>();
+        private long imported;
+        private long failed;
+
+        Batch(User user) {
+            this.user = user;
+        }
+
+        void add(long line, JobApplicationRequest request, List<String> parseErrors) {
+            for (ConstraintViolation<JobApplicationRequest> violation : validator.validate(request)) {
+                parseErrors.add(violation.getMessage());
+            }
+            if (!parseErrors.isEmpty()) {
+                reject(line, parseErrors);
+                return;
+            }
+            JobApplication application = mapper.toEntity(request);
+            application.setUser(user);
+            pending.add(application);
+            pendingLines.add(line);
+            if (pending.size() == CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        void reject(long line, List<String> messages) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportResult.RowError(line, messages.stream().sorted().toList()));
+            }
+        }
+
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    applicationRepository.saveAll(pending);
+                    statsService.adjust(user.getId(), pending.stream().collect(Collectors.groupingBy(
+                            JobApplication::getStatus, () -> new EnumMap<>(ApplicationStatus.class),
+                            Collectors.counting())));
+                    entityManager.flush();
+                    // the request-scoped persistence context would otherwise keep every imported row
+                    entityManager.clear();
+                });
+                imported += pending.size();
+            } catch (DataAccessException | TransactionException e) {
+                log.warn("Import chunk of {} rows for user {} failed", pending.size(), user.getId(), e);
+                for (Long line : pendingLines) {
+                    reject(line, List.of("Could not be saved"));
+                }
+            }
+            pending.clear();
+            pendingLines.clear();
+        }
+    }
+}
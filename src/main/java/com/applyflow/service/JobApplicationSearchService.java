@@ -0,0 +1,110 @@
+package com.applyflow.service;
+
+import com.applyflow.dto.JobApplicationResponse;
+import com.applyflow.dto.PagedResponse;
+import com.applyflow.dto.SearchCursor;
+import com.applyflow.entity.User;
+import com.applyflow.exception.BadRequestException;
+import com.applyflow.mapper.JobApplicationMapper;
+import com.applyflow.repository.ApplicationListRow;
+import com.applyflow.repository.JobApplicationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Searches a user's applications by company, position and notes. On Postgres
+ * ({@code application.search.full-text}) results come from the {@code search_vector} GIN index,
+ * best match first; elsewhere it falls back to substring matching, newest first. Both page with
+ * a {@link SearchCursor} and never count the total.
+ */
+@Service
+@Slf4j
+public class JobApplicationSearchService {
+
+    public static final int MAX_QUERY_LENGTH = 200;
+
+    private final JobApplicationRepository applicationRepository;
+    private final JobApplicationMapper mapper;
+    private final boolean fullText;
+
+    public JobApplicationSearchService(JobApplicationRepository applicationRepository,
+                                       JobApplicationMapper mapper,
+                                       @Value("${application.search.full-text:false}") boolean fullText) {
+        this.applicationRepository = applicationRepository;
+        this.mapper = mapper;
+        this.fullText = fullText;
+        log.info("Application search uses {}", fullText ? "full-text ranking" : "substring matching");
+    }
+
+    @Transactional(readOnly = true)
+    public PagedResponse<JobApplicationResponse> search(User user, String query, String after, int size) {
+        if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH) {
+            throw new BadRequestException("Search query must be 1 to " + MAX_QUERY_LENGTH + " characters");
+        }
+        SearchCursor cursor = after != null ? SearchCursor.decode(after) : null;
+        return fullText ? searchRanked(user, query, cursor, size) : searchContaining(user, query, cursor, size);
+    }
+
+    private PagedResponse<JobApplicationResponse> searchRanked(User user, String query, SearchCursor cursor,
+                                                               int size) {
+        List<Object[]> hits = cursor == null
+                ? applicationRepository.searchRanked(user.getId(), query, size + 1)
+                : applicationRepository.searchRankedAfter(user.getId(), query, cursor.rank(), cursor.id(), size + 1);
+        boolean hasNext = hits.size() > size;
+        List<Object[]> page = hasNext ? hits.subList(0, size) : hits;
+
+        List<Long> ids = page.stream().map(hit -> ((Number) hit[0]).longValue()).toList();
+        Map<Long, ApplicationListRow> rows = ids.isEmpty() ? Map.of()
+                : applicationRepository.findListRows(user, ids).stream()
+                        .collect(Collectors.toMap(ApplicationListRow::id, Function.identity()));
+        List<JobApplicationResponse> content = ids.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull) // deleted between the two queries
+                .map(mapper::toListResponse)
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            Object[] last = page.get(page.size() - 1);
+            nextCursor = new SearchCursor(((Number) last[1]).floatValue(), ((Number) last[0]).longValue()).encode();
+        }
+        return page(content, size, nextCursor);
+    }
+
+    private PagedResponse<JobApplicationResponse> searchContaining(User user, String query, SearchCursor cursor,
+                                                                   int size) {
+        Slice<ApplicationListRow> slice = applicationRepository.searchContaining(
+                user, JobApplicationRepository.containsPattern(query),
+                cursor != null ? cursor.id() : Long.MAX_VALUE, PageRequest.of(0, size));
+        List<ApplicationListRow> rows = slice.getContent();
+
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            nextCursor = new SearchCursor(0, rows.get(rows.size() - 1).id()).encode();
+        }
+        return page(rows.stream().map(mapper::toListResponse).toList(), size, nextCursor);
+    }
+
+    private static PagedResponse<JobApplicationResponse> page(List<JobApplicationResponse> content, int size,
+                                                              String nextCursor) {
+        return PagedResponse.<JobApplicationResponse>builder()
+                .content(content)
+                .page(0)
+                .size(size)
+                .totalElements(-1)
+                .totalPages(-1)
+                .last(nextCursor == null)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -1,44 +1,74 @@
 package com.applyflow.service;
 
+import com.applyflow.cache.UserCacheGenerations;
 import com.applyflow.dto.*;
 import com.applyflow.entity.JobApplication;
 import com.applyflow.entity.StatusHistory;
 import com.applyflow.entity.User;
 import com.applyflow.enums.ApplicationStatus;
+import com.applyflow.exception.BadRequestException;
 import com.applyflow.exception.ResourceNotFoundException;
 import com.applyflow.event.AuditEventPublisher;
+import com.applyflow.event.JobApplicationChangedEvent;
 import com.applyflow.mapper.JobApplicationMapper;
+import com.applyflow.repository.ApplicationListRow;
+import com.applyflow.repository.ApplicationNames;
+import com.applyflow.repository.ApplicationStatusSnapshot;
 import com.applyflow.repository.JobApplicationRepository;
 import com.applyflow.repository.StatusHistoryRepository;
+import com.applyflow.repository.StatusHistoryRow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class JobApplicationService {
 
+    public static final int MAX_HISTORY_BATCH = 100;
+
     private final JobApplicationRepository applicationRepository;
     private final StatusHistoryRepository statusHistoryRepository;
     private final JobApplicationMapper mapper;
     private final EmailService emailService;
     private final AuditEventPublisher auditEventPublisher;
+    private final UserCacheGenerations cacheGenerations;
+    private final CacheManager cacheManager;
+    private final ApplicationStatsService statsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
-    @CacheEvict(value = "userApplications", key = "#user.id")
     public JobApplicationResponse create(JobApplicationRequest request, User user) {
         JobApplication application = mapper.toEntity(request);
         application.setUser(user);
         application = applicationRepository.save(application);
+        statsService.adjust(user.getId(), application.getStatus(), 1);
+        publishChange(user, cacheGenerations.bump(user.getId()), List.of(names(application)), List.of());
         log.debug("Created job application {} for user {}", application.getId(), user.getId());
         auditEventPublisher.publish(
                 com.applyflow.enums.AuditEventType.JOB_CREATED,
@@ -47,6 +77,8 @@ public class JobApplicationService {
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(value = "applicationPages", key = "@userCacheGenerations.pageKey(#user.id, "
+            + "#status, #companyName, #startDate, #endDate, #pageable)", sync = true)
     public PagedResponse<JobApplicationResponse> getAll(
             User user,
             ApplicationStatus status,
@@ -54,13 +86,14 @@ public class JobApplicationService {
             LocalDate startDate,
             LocalDate endDate,
             Pageable pageable) {
-        Page<JobApplication> page = applicationRepository.findByFilters(
-                user, status, companyName, startDate, endDate, pageable);
+        Page<ApplicationListRow> page = applicationRepository.findByFilters(
+                user, status, JobApplicationRepository.containsPattern(companyName), startDate, endDate, pageable);
 
+        // Mutable list: cached pages are serialized with type information, which immutable lists lack
         List<JobApplicationResponse> content = page.getContent()
                 .stream()
-                .map(mapper::toResponse)
-                .toList();
+                .map(mapper::toListResponse)
+                .collect(Collectors.toCollection(ArrayList::new));
 
         return PagedResponse.<JobApplicationResponse>builder()
                 .content(content)
@@ -72,20 +105,75 @@ public class JobApplicationService {
                 .build();
     }
 
+    /**
+     * Keyset variant of {@link #getAll}: ordered by application date then id, resumes after
+     * the row encoded in {@code after} and never runs a count query.
+     */
     @Transactional(readOnly = true)
-    @Cacheable(value = "applications", key = "#id + '_' + #user.id")
+    public PagedResponse<JobApplicationResponse> getAllAfter(
+            User user,
+            ApplicationStatus status,
+            String companyName,
+            LocalDate startDate,
+            LocalDate endDate,
+            String after,
+            int size,
+            boolean ascending) {
+        ApplicationCursor cursor = after != null ? ApplicationCursor.decode(after) : null;
+        LocalDate afterDate = cursor != null ? cursor.applicationDate() : null;
+        Long afterId = cursor != null ? cursor.id() : null;
+        Pageable pageable = PageRequest.of(0, size);
+        String companyPattern = JobApplicationRepository.containsPattern(companyName);
+
+        Slice<ApplicationListRow> slice = ascending
+                ? applicationRepository.findByFiltersAfter(
+                        user, status, companyPattern, startDate, endDate, afterDate, afterId, pageable)
+                : applicationRepository.findByFiltersBefore(
+                        user, status, companyPattern, startDate, endDate, afterDate, afterId, pageable);
+
+        List<ApplicationListRow> rows = slice.getContent();
+        List<JobApplicationResponse> content = rows.stream()
+                .map(mapper::toListResponse)
+                .toList();
+
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            ApplicationListRow lastRow = rows.get(rows.size() - 1);
+            nextCursor = new ApplicationCursor(lastRow.applicationDate(), lastRow.id()).encode();
+        }
+
+        return PagedResponse.<JobApplicationResponse>builder()
+                .content(content)
+                .page(0)
+                .size(size)
+                .totalElements(-1)
+                .totalPages(-1)
+                .last(!slice.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public ApplicationStatsResponse getStats(User user) {
+        return statsService.getStats(user.getId());
+    }
+
+    @Transactional(readOnly = true)
+    @Cacheable(value = "applications", key = "#id + '_' + #user.id", sync = true)
     public JobApplicationResponse getById(Long id, User user) {
         JobApplication application = findApplicationByIdAndUser(id, user);
         return mapper.toResponse(application);
     }
 
     @Transactional
-    @CacheEvict(value = { "applications", "userApplications" }, allEntries = true)
+    @CacheEvict(value = "applications", key = "#id + '_' + #user.id")
     public JobApplicationResponse update(Long id, JobApplicationRequest request, User user) {
         JobApplication application = findApplicationByIdAndUser(id, user);
+        UserCacheGenerations.Change generation = cacheGenerations.bump(user.getId());
 
         ApplicationStatus oldStatus = application.getStatus();
         mapper.updateEntity(application, request);
+        publishChange(user, generation, List.of(names(application)), List.of());
 
         if (request.getStatus() != null && oldStatus != request.getStatus()) {
             StatusHistory history = StatusHistory.builder()
@@ -94,6 +182,7 @@ public class JobApplicationService {
                     .newStatus(request.getStatus())
                     .build();
             statusHistoryRepository.save(history);
+            statsService.adjust(user.getId(), Map.of(oldStatus, -1L, request.getStatus(), 1L));
             log.debug("Status changed from {} to {} for application {}",
                     oldStatus, request.getStatus(), id);
             emailService.sendStatusChangeNotification(
@@ -113,25 +202,147 @@ public class JobApplicationService {
     }
 
     @Transactional
-    @CacheEvict(value = { "applications", "userApplications" }, allEntries = true)
+    @CacheEvict(value = "applications", key = "#id + '_' + #user.id")
     public void delete(Long id, User user) {
         JobApplication application = findApplicationByIdAndUser(id, user);
         applicationRepository.delete(application);
+        statsService.adjust(user.getId(), application.getStatus(), -1);
+        publishChange(user, cacheGenerations.bump(user.getId()), List.of(), List.of(id));
         log.debug("Deleted job application {} for user {}", id, user.getId());
         auditEventPublisher.publish(
                 com.applyflow.enums.AuditEventType.JOB_DELETED,
                 user.getId(), id);
     }
 
+    /**
+     * Moves many applications to one status with a single UPDATE. History rows are inserted as one
+     * JDBC batch, and the user gets one digest email and one audit entry for the whole call.
+     */
+    @Transactional
+    public BulkStatusUpdateResponse updateStatuses(BulkStatusUpdateRequest request, User user) {
+        ApplicationStatus newStatus = request.getStatus();
+        Set<Long> requested = new LinkedHashSet<>(request.getIds());
+        List<ApplicationStatusSnapshot> found = applicationRepository.lockStatuses(user, requested);
+
+        List<ApplicationStatusSnapshot> changed = new ArrayList<>();
+        List<Long> unchanged = new ArrayList<>();
+        for (ApplicationStatusSnapshot snapshot : found) {
+            requested.remove(snapshot.id());
+            if (snapshot.status() == newStatus) {
+                unchanged.add(snapshot.id());
+            } else {
+                changed.add(snapshot);
+            }
+        }
+        List<Long> changedIds = changed.stream().map(ApplicationStatusSnapshot::id).toList();
+
+        if (!changed.isEmpty()) {
+            applicationRepository.updateStatuses(user, changedIds, newStatus, LocalDateTime.now());
+            Map<ApplicationStatus, Long> deltas = changed.stream().collect(Collectors.groupingBy(
+                    ApplicationStatusSnapshot::status, () -> new EnumMap<>(ApplicationStatus.class),
+                    Collectors.summingLong(snapshot -> -1L)));
+            deltas.put(newStatus, (long) changed.size());
+            statsService.adjust(user.getId(), deltas);
+            statusHistoryRepository.saveAll(changed.stream()
+                    .map(snapshot -> StatusHistory.builder()
+                            .jobApplication(applicationRepository.getReferenceById(snapshot.id()))
+                            .previousStatus(snapshot.status())
+                            .newStatus(newStatus)
+                            .build())
+                    .toList());
+
+            evictAfterCommit(changedIds, user);
+            publishChange(user, cacheGenerations.bump(user.getId()), List.of(), List.of());
+
+            emailService.sendStatusChangeDigest(user.getEmail(), newStatus.name(), changed.stream()
+                    .map(snapshot -> snapshot.companyName() + ": " + snapshot.status() + " -> " + newStatus)
+                    .toList());
+            auditEventPublisher.publish(
+                    com.applyflow.enums.AuditEventType.JOB_STATUS_CHANGED,
+                    user.getId(), null,
+                    changed.size() + " applications -> " + newStatus.name() + ", ids=" + changedIds);
+            log.debug("Moved {} applications to {} for user {}", changed.size(), newStatus, user.getId());
+        }
+
+        return BulkStatusUpdateResponse.builder()
+                .status(newStatus)
+                .updated(changedIds)
+                .unchanged(unchanged)
+                .notFound(List.copyOf(requested))
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public List<StatusHistoryResponse> getStatusHistory(Long applicationId, User user) {
-        JobApplication application = findApplicationByIdAndUser(applicationId, user);
+        List<StatusHistoryResponse> history = getStatusHistories(List.of(applicationId), user).get(applicationId);
+        if (history == null) {
+            throw new ResourceNotFoundException("Job application not found with id: " + applicationId);
+        }
+        return history;
+    }
 
-        return statusHistoryRepository
-                .findByJobApplicationOrderByChangedAtDesc(application)
-                .stream()
-                .map(mapper::toStatusHistoryResponse)
-                .toList();
+    /**
+     * Timelines for up to {@value #MAX_HISTORY_BATCH} applications, keyed by id in request order.
+     * Ids that are missing or belong to another user are left out.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<StatusHistoryResponse>> getStatusHistories(List<Long> applicationIds, User user) {
+        Set<Long> ids = new LinkedHashSet<>(applicationIds);
+        if (ids.isEmpty() || ids.size() > MAX_HISTORY_BATCH) {
+            throw new BadRequestException("Between 1 and " + MAX_HISTORY_BATCH + " ids are required");
+        }
+
+        Map<Long, List<StatusHistoryResponse>> owned = new HashMap<>();
+        for (StatusHistoryRow row : statusHistoryRepository.findTimelines(ids, user)) {
+            List<StatusHistoryResponse> timeline = owned.computeIfAbsent(row.applicationId(), id -> new ArrayList<>());
+            if (!row.isEmpty()) {
+                timeline.add(mapper.toStatusHistoryResponse(row));
+            }
+        }
+
+        Map<Long, List<StatusHistoryResponse>> timelines = new LinkedHashMap<>();
+        for (Long id : ids) {
+            List<StatusHistoryResponse> timeline = owned.get(id);
+            if (timeline != null) {
+                timelines.put(id, timeline);
+            }
+        }
+        return timelines;
+    }
+
+    /**
+     * Tells derived state such as the suggestion index what changed. Published for every bump,
+     * even when no names changed, so listeners can move to the new generation.
+     */
+    private void publishChange(User user, UserCacheGenerations.Change generation,
+                               List<ApplicationNames> saved, List<Long> deleted) {
+        eventPublisher.publishEvent(new JobApplicationChangedEvent(this, user.getId(), generation, saved, deleted));
+    }
+
+    /**
+     * Evicts the cached applications once the bulk update has committed. Evicting earlier would let
+     * a concurrent read cache the old status again before the new one is visible.
+     */
+    private void evictAfterCommit(List<Long> ids, User user) {
+        Cache applications = cacheManager.getCache("applications");
+        if (applications == null) {
+            return;
+        }
+        Runnable evict = () -> ids.forEach(id -> applications.evict(id + "_" + user.getId()));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        } else {
+            evict.run();
+        }
+    }
+
+    private static ApplicationNames names(JobApplication application) {
+        return new ApplicationNames(application.getId(), application.getCompanyName(), application.getPosition());
     }
 
     private JobApplication findApplicationByIdAndUser(Long id, User user) {
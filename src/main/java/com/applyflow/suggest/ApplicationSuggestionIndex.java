@@ -0,0 +1,145 @@
+package com.applyflow.suggest;
+
+import com.applyflow.cache.UserCacheGenerations;
+import com.applyflow.enums.SuggestField;
+import com.applyflow.event.JobApplicationChangedEvent;
+import com.applyflow.repository.ApplicationNames;
+import com.applyflow.repository.JobApplicationRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Per-user company and position autocomplete held in memory. A user's index is loaded on their
+ * first lookup, kept current by {@link JobApplicationChangedEvent}s after commit, and dropped once
+ * idle. Warm lookups do not touch the database.
+ *
+ * <p>Every index is stamped with the user's {@link UserCacheGenerations} token it is current for.
+ * A change is applied in place only to an index stamped with the generation the change was made
+ * under (or the one it produced), which then moves to the new generation; any other index is
+ * dropped. Changes made on other nodes reach this node only through the token, so an index built
+ * under an older one is reloaded. Changes are keyed by application id, so a load that already saw
+ * a change before its event arrives is not double counted. Indexes are also reloaded after
+ * {@code max-age} so that any update this node missed cannot linger.
+ */
+@Component
+@Slf4j
+public class ApplicationSuggestionIndex {
+
+    private final JobApplicationRepository applicationRepository;
+    private final UserCacheGenerations cacheGenerations;
+    private final Duration maxAge;
+    private final Cache<Long, UserIndex> indexes;
+
+    public ApplicationSuggestionIndex(
+            JobApplicationRepository applicationRepository,
+            UserCacheGenerations cacheGenerations,
+            @Value("${application.suggest.max-users:10000}") long maxUsers,
+            @Value("${application.suggest.idle-minutes:30}") long idleMinutes,
+            @Value("${application.suggest.max-age-minutes:60}") long maxAgeMinutes) {
+        this.applicationRepository = applicationRepository;
+        this.cacheGenerations = cacheGenerations;
+        this.maxAge = Duration.ofMinutes(maxAgeMinutes);
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .build();
+    }
+
+    public List<String> suggest(Long userId, SuggestField field, String prefix, int limit) {
+        String generation = cacheGenerations.current(userId);
+        UserIndex index = indexes.getIfPresent(userId);
+        if (index == null || !index.isCurrent(generation, maxAge)) {
+            // Loaded outside the map so the query does not hold a bin lock; the install only keeps an
+            // index another request built for the same generation in the meantime
+            UserIndex loaded = load(userId, generation);
+            index = indexes.asMap().compute(userId, (id, existing) ->
+                    existing != null && existing.isCurrent(generation, maxAge) ? existing : loaded);
+        }
+        return index.get(field).complete(prefix, limit);
+    }
+
+    /**
+     * Applies a committed change to a loaded index built under the generation the change was made
+     * under, and drops an index built under any other one; users without an index are skipped.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onApplicationChanged(JobApplicationChangedEvent event) {
+        UserCacheGenerations.Change change = event.getGeneration();
+        indexes.asMap().computeIfPresent(event.getUserId(), (id, index) ->
+                index.generation().equals(change.previous()) || index.generation().equals(change.next())
+                        ? index.update(event)
+                        : null);
+    }
+
+    private UserIndex load(Long userId, String generation) {
+        List<ApplicationNames> names = applicationRepository.findNamesByUserId(userId);
+        log.debug("Loaded suggestion index for user {} from {} applications", userId, names.size());
+        Map<Long, ApplicationNames> byId = new HashMap<>();
+        names.forEach(application -> byId.put(application.id(), application));
+        return new UserIndex(generation, Instant.now(), byId,
+                PrefixIndex.of(names.stream().map(ApplicationNames::companyName).toList()),
+                PrefixIndex.of(names.stream().map(ApplicationNames::position).toList()));
+    }
+
+    /**
+     * @param byId the names each indexed application was counted with; never modified once built
+     */
+    private record UserIndex(String generation, Instant loadedAt, Map<Long, ApplicationNames> byId,
+                             PrefixIndex companies, PrefixIndex positions) {
+
+        boolean isCurrent(String currentGeneration, Duration maxAge) {
+            return generation.equals(currentGeneration) && loadedAt.plus(maxAge).isAfter(Instant.now());
+        }
+
+        PrefixIndex get(SuggestField field) {
+            return field == SuggestField.POSITION ? positions : companies;
+        }
+
+        /**
+         * Brings each changed application to its state in the event, so an application the index
+         * already has in that state is left alone.
+         */
+        UserIndex update(JobApplicationChangedEvent event) {
+            Map<Long, ApplicationNames> updated = new HashMap<>(byId);
+            List<ApplicationNames> removed = new ArrayList<>();
+            List<ApplicationNames> added = new ArrayList<>();
+            for (ApplicationNames names : event.getSaved()) {
+                ApplicationNames previous = updated.put(names.id(), names);
+                if (!names.equals(previous)) {
+                    if (previous != null) {
+                        removed.add(previous);
+                    }
+                    added.add(names);
+                }
+            }
+            for (Long deletedId : event.getDeleted()) {
+                ApplicationNames previous = updated.remove(deletedId);
+                if (previous != null) {
+                    removed.add(previous);
+                }
+            }
+            return new UserIndex(event.getGeneration().next(), loadedAt, updated,
+                    companies.update(names(removed, ApplicationNames::companyName),
+                            names(added, ApplicationNames::companyName)),
+                    positions.update(names(removed, ApplicationNames::position),
+                            names(added, ApplicationNames::position)));
+        }
+
+        private static List<String> names(List<ApplicationNames> names, Function<ApplicationNames, String> field) {
+            return names.stream().map(field).toList();
+        }
+    }
+}
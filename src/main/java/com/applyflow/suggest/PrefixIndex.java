@@ -0,0 +1,106 @@
+package com.applyflow.suggest;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable set of names sorted by their normalized form, answering prefix lookups with a binary
+ * search. Each name is counted, so removing one of two applications at the same company keeps the
+ * company. Updates return a new index, which lets readers use an index without locking.
+ */
+public final class PrefixIndex {
+
+    public static final PrefixIndex EMPTY = new PrefixIndex(new String[0], new String[0], new int[0]);
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    private final String[] keys;
+    private final String[] names;
+    private final int[] counts;
+
+    private PrefixIndex(String[] keys, String[] names, int[] counts) {
+        this.keys = keys;
+        this.names = names;
+        this.counts = counts;
+    }
+
+    public static PrefixIndex of(Collection<String> names) {
+        return EMPTY.update(List.of(), names);
+    }
+
+    /**
+     * Lower case, accents stripped and whitespace collapsed, so "  Nestlé  SA" matches "nestle s".
+     */
+    public static String normalize(String name) {
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFKD);
+        return SPACES.matcher(MARKS.matcher(decomposed).replaceAll("")).replaceAll(" ")
+                .trim()
+                .toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Up to {@code limit} names whose normalized form starts with the normalized {@code prefix},
+     * in normalized order. A name keeps the spelling it was first added with.
+     */
+    public List<String> complete(String prefix, int limit) {
+        String key = normalize(prefix);
+        int from = Arrays.binarySearch(keys, key);
+        if (from < 0) {
+            from = -from - 1;
+        }
+        List<String> matches = new ArrayList<>(Math.min(limit, keys.length - from));
+        for (int i = from; i < keys.length && matches.size() < limit && keys[i].startsWith(key); i++) {
+            matches.add(names[i]);
+        }
+        return matches;
+    }
+
+    public PrefixIndex update(Collection<String> removed, Collection<String> added) {
+        if (removed.isEmpty() && added.isEmpty()) {
+            return this;
+        }
+        Map<String, Entry> entries = new TreeMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            entries.put(keys[i], new Entry(names[i], counts[i]));
+        }
+        for (String name : removed) {
+            if (name != null) {
+                entries.computeIfPresent(normalize(name),
+                        (key, entry) -> entry.count() > 1 ? new Entry(entry.name(), entry.count() - 1) : null);
+            }
+        }
+        for (String name : added) {
+            if (name != null && !normalize(name).isEmpty()) {
+                entries.merge(normalize(name), new Entry(name.trim(), 1),
+                        (entry, one) -> new Entry(entry.name(), entry.count() + 1));
+            }
+        }
+
+        String[] newKeys = new String[entries.size()];
+        String[] newNames = new String[entries.size()];
+        int[] newCounts = new int[entries.size()];
+        int i = 0;
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            newKeys[i] = entry.getKey();
+            newNames[i] = entry.getValue().name();
+            newCounts[i] = entry.getValue().count();
+            i++;
+        }
+        return new PrefixIndex(newKeys, newNames, newCounts);
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    private record Entry(String name, int count) {
+    }
+}
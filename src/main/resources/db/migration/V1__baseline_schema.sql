@@ -0,0 +1,71 @@
+-- Schema as originally generated by Hibernate. Existing databases are baselined at this
+-- version (spring.flyway.baseline-on-migrate) and only receive later migrations.
+
+CREATE TABLE users (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL,
+    email       VARCHAR(255) NOT NULL UNIQUE,
+    password    VARCHAR(255) NOT NULL,
+    role        VARCHAR(255) NOT NULL CONSTRAINT users_role_check CHECK (role IN ('USER', 'ADMIN')),
+    created_at  TIMESTAMP(6) NOT NULL
+);
+
+CREATE UNIQUE INDEX idx_user_email ON users (email);
+
+CREATE TABLE job_applications (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    company_name        VARCHAR(255) NOT NULL,
+    position            VARCHAR(255) NOT NULL,
+    status              VARCHAR(255) NOT NULL CONSTRAINT job_applications_status_check
+                            CHECK (status IN ('APPLIED', 'INTERVIEW', 'TECHNICAL', 'OFFER', 'REJECTED')),
+    application_date    DATE NOT NULL,
+    salary_expectation  NUMERIC(10, 2),
+    contact_person      VARCHAR(255),
+    notes               VARCHAR(2000),
+    user_id             BIGINT NOT NULL REFERENCES users (id),
+    created_at          TIMESTAMP(6) NOT NULL,
+    updated_at          TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_application_status ON job_applications (status);
+CREATE INDEX idx_application_date ON job_applications (application_date);
+CREATE INDEX idx_application_user ON job_applications (user_id);
+
+CREATE TABLE status_history (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    job_application_id  BIGINT NOT NULL REFERENCES job_applications (id),
+    previous_status     VARCHAR(255) NOT NULL CONSTRAINT status_history_previous_status_check
+                            CHECK (previous_status IN ('APPLIED', 'INTERVIEW', 'TECHNICAL', 'OFFER', 'REJECTED')),
+    new_status          VARCHAR(255) NOT NULL CONSTRAINT status_history_new_status_check
+                            CHECK (new_status IN ('APPLIED', 'INTERVIEW', 'TECHNICAL', 'OFFER', 'REJECTED')),
+    changed_at          TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_history_application ON status_history (job_application_id);
+
+CREATE TABLE refresh_tokens (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    token_hash  VARCHAR(255) NOT NULL UNIQUE,
+    user_id     BIGINT NOT NULL REFERENCES users (id),
+    expires_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    revoked     BOOLEAN NOT NULL,
+    created_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_refresh_token_hash ON refresh_tokens (token_hash);
+CREATE INDEX idx_refresh_token_user ON refresh_tokens (user_id);
+
+CREATE TABLE audit_logs (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_type  VARCHAR(255) NOT NULL CONSTRAINT audit_logs_event_type_check
+                    CHECK (event_type IN ('USER_REGISTERED', 'USER_LOGGED_IN', 'USER_LOGGED_OUT', 'JOB_CREATED',
+                                          'JOB_UPDATED', 'JOB_DELETED', 'JOB_STATUS_CHANGED', 'RATE_LIMIT_EXCEEDED')),
+    user_id     BIGINT,
+    entity_id   BIGINT,
+    metadata    TEXT,
+    created_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_audit_user_id ON audit_logs (user_id);
+CREATE INDEX idx_audit_event_type ON audit_logs (event_type);
+CREATE INDEX idx_audit_created_at ON audit_logs (created_at);
@@ -0,0 +1,3 @@
+-- Mapped by User.tokenVersion, which shipped before the migrations did; deployments that added the
+-- column by hand while on that build are left as they are.
+ALTER TABLE users ADD COLUMN IF NOT EXISTS token_version INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,11 @@
+-- findByFilters always filters by user, optionally by status, and sorts by application date.
+CREATE INDEX idx_application_user_status_date ON job_applications (user_id, status, application_date);
+CREATE INDEX idx_application_user_date ON job_applications (user_id, application_date, id);
+CREATE INDEX idx_application_user_updated ON job_applications (user_id, updated_at);
+
+-- Covered by the composite indexes above.
+DROP INDEX IF EXISTS idx_application_user;
+
+-- Lets LOWER(company_name) LIKE '%term%' use an index instead of scanning every row of the user.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX idx_application_company_trgm ON job_applications USING gin (LOWER(company_name) gin_trgm_ops);
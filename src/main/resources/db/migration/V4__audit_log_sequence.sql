@@ -0,0 +1,8 @@
+-- Audit entries are written in batches; IDENTITY ids force one round trip per row,
+-- so audit_logs moves to a sequence that Hibernate allocates from in blocks of 50.
+CREATE SEQUENCE IF NOT EXISTS audit_logs_seq INCREMENT BY 50;
+
+-- The pooled optimizer treats each value as the top of a block, so start one block above MAX(id).
+SELECT setval('audit_logs_seq', COALESCE((SELECT MAX(id) FROM audit_logs), 0) + 50, false);
+
+ALTER TABLE audit_logs ALTER COLUMN id DROP IDENTITY IF EXISTS;
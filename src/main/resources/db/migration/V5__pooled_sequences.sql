@@ -0,0 +1,16 @@
+-- Same move as audit_logs in V4 for the remaining tables: IDENTITY ids make Hibernate insert
+-- row by row, pooled sequences let inserts go out as JDBC batches.
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS job_applications_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS status_history_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS refresh_tokens_seq INCREMENT BY 50;
+
+SELECT setval('users_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 50, false);
+SELECT setval('job_applications_seq', COALESCE((SELECT MAX(id) FROM job_applications), 0) + 50, false);
+SELECT setval('status_history_seq', COALESCE((SELECT MAX(id) FROM status_history), 0) + 50, false);
+SELECT setval('refresh_tokens_seq', COALESCE((SELECT MAX(id) FROM refresh_tokens), 0) + 50, false);
+
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE job_applications ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE status_history ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE refresh_tokens ALTER COLUMN id DROP IDENTITY IF EXISTS;
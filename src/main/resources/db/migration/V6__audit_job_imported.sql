@@ -0,0 +1,5 @@
+-- Bulk imports are audited as a single event per request
+ALTER TABLE audit_logs DROP CONSTRAINT audit_logs_event_type_check;
+ALTER TABLE audit_logs ADD CONSTRAINT audit_logs_event_type_check
+    CHECK (event_type IN ('USER_REGISTERED', 'USER_LOGGED_IN', 'USER_LOGGED_OUT', 'JOB_CREATED', 'JOB_UPDATED',
+                          'JOB_DELETED', 'JOB_STATUS_CHANGED', 'JOB_IMPORTED', 'RATE_LIMIT_EXCEEDED'));
@@ -0,0 +1,5 @@
+-- Timelines are read per application, newest change first.
+CREATE INDEX idx_history_application_changed ON status_history (job_application_id, changed_at DESC);
+
+-- Covered by the composite index above.
+DROP INDEX IF EXISTS idx_history_application;
@@ -0,0 +1,16 @@
+-- Per-user counters behind GET /api/applications/stats, maintained by every write that changes a status.
+CREATE TABLE application_status_counts (
+    user_id            BIGINT NOT NULL REFERENCES users (id),
+    status             VARCHAR(255) NOT NULL CONSTRAINT application_status_counts_status_check
+                           CHECK (status IN ('APPLIED', 'INTERVIEW', 'TECHNICAL', 'OFFER', 'REJECTED')),
+    application_count  BIGINT NOT NULL,
+    PRIMARY KEY (user_id, status)
+);
+
+-- One row per user and status, zeros included, so writes only ever need an UPDATE.
+INSERT INTO application_status_counts (user_id, status, application_count)
+SELECT u.id, s.status, COUNT(j.id)
+FROM users u
+CROSS JOIN (VALUES ('APPLIED'), ('INTERVIEW'), ('TECHNICAL'), ('OFFER'), ('REJECTED')) AS s (status)
+LEFT JOIN job_applications j ON j.user_id = u.id AND j.status = s.status
+GROUP BY u.id, s.status;
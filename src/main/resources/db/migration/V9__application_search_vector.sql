@@ -0,0 +1,11 @@
+-- Full-text search over company, position and notes; company matches rank highest, notes lowest.
+-- Adding a STORED generated column rewrites the table once.
+ALTER TABLE job_applications ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', company_name), 'A') ||
+    setweight(to_tsvector('english', position), 'B') ||
+    setweight(to_tsvector('english', COALESCE(notes, '')), 'C')
+) STORED;
+
+-- btree_gin lets one index answer both the user filter and the text match.
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+CREATE INDEX idx_application_search ON job_applications USING gin (user_id, search_vector);
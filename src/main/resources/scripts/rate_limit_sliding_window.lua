@@ -0,0 +1,39 @@
+-- Sliding-window log rate limiter, evaluated atomically in one round trip.
+-- KEYS[1]  window key (sorted set of request timestamps)
+-- ARGV[1]  limit
+-- ARGV[2]  window length in milliseconds
+-- ARGV[3]  unique member prefix for this call
+-- ARGV[4]  permits wanted (optional, default 1); fewer are granted if the window is nearly full
+-- ARGV[5..] members of an earlier lease to give back before counting (optional)
+-- Returns {granted, count, remaining, reset_ms}
+local key = KEYS[1]
+local limit = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local permits = tonumber(ARGV[4] or '1')
+
+-- Server clock, so every node agrees on the window regardless of local clock skew
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+if #ARGV >= 5 then
+    redis.call('ZREM', key, unpack(ARGV, 5))
+end
+redis.call('ZREMRANGEBYSCORE', key, '-inf', now - window)
+local count = redis.call('ZCARD', key)
+
+local granted = math.max(math.min(permits, limit - count), 0)
+for i = 1, granted do
+    redis.call('ZADD', key, now, ARGV[3] .. ':' .. i)
+end
+count = count + granted
+
+-- Always refreshed inside the script, so a key can never be left without an expiry
+redis.call('PEXPIRE', key, window)
+
+local reset = window
+local oldest = redis.call('ZRANGE', key, 0, 0, 'WITHSCORES')
+if oldest[2] then
+    reset = tonumber(oldest[2]) + window - now
+end
+
+return {granted, count, math.max(limit - count, 0), reset}
@@ -0,0 +1,93 @@
+package com.applyflow.benchmark;
+
+import com.applyflow.cache.CacheCodec;
+import com.applyflow.cache.CacheValueSerializer;
+import com.applyflow.config.CacheConfig;
+import com.applyflow.dto.JobApplicationResponse;
+import com.applyflow.dto.PagedResponse;
+import com.applyflow.enums.ApplicationStatus;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialize/deserialize cost of a cached listing page (20 applications) with the SMILE codec
+ * against the previous default-typed JSON serializer. Encoded sizes are printed at setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CacheSerializerBenchmark {
+
+    private GenericJackson2JsonRedisSerializer json;
+    private CacheValueSerializer smile;
+    private PagedResponse<JobApplicationResponse> page;
+    private byte[] jsonBytes;
+    private byte[] smileBytes;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance,
+                ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        json = new GenericJackson2JsonRedisSerializer(mapper);
+        smile = new CacheValueSerializer(CacheCodec.SMILE, json, CacheConfig.cacheTypes());
+
+        List<JobApplicationResponse> content = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            content.add(JobApplicationResponse.builder()
+                    .id((long) i)
+                    .companyName("Company " + i)
+                    .position("Backend Developer")
+                    .status(ApplicationStatus.values()[i % ApplicationStatus.values().length])
+                    .applicationDate(LocalDate.of(2024, 3, 1).plusDays(i))
+                    .salaryExpectation(new BigDecimal("120000.00"))
+                    .contactPerson("Jane HR")
+                    .notes("Applied via LinkedIn")
+                    .createdAt(LocalDateTime.of(2024, 3, 1, 9, 30))
+                    .updatedAt(LocalDateTime.of(2024, 3, 2, 14, 5))
+                    .build());
+        }
+        page = PagedResponse.<JobApplicationResponse>builder()
+                .content(content).page(0).size(20).totalElements(20).totalPages(1).last(true)
+                .build();
+
+        jsonBytes = json.serialize(page);
+        smileBytes = smile.serialize(page);
+        System.out.printf("%nEncoded page: json=%d bytes, smile=%d bytes%n", jsonBytes.length, smileBytes.length);
+    }
+
+    @Benchmark
+    public byte[] serializeJson() {
+        return json.serialize(page);
+    }
+
+    @Benchmark
+    public byte[] serializeSmile() {
+        return smile.serialize(page);
+    }
+
+    @Benchmark
+    public Object deserializeJson() {
+        return json.deserialize(jsonBytes);
+    }
+
+    @Benchmark
+    public Object deserializeSmile() {
+        return smile.deserialize(smileBytes);
+    }
+}
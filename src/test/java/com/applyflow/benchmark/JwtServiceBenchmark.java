@@ -0,0 +1,102 @@
+package com.applyflow.benchmark;
+
+import com.applyflow.entity.User;
+import com.applyflow.enums.Role;
+import com.applyflow.security.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generate/validate throughput of {@link JwtService} against the previous implementation,
+ * which re-derived the signing key and rebuilt the parser on every call and parsed a token
+ * twice per validation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "dGhpc2lzYXZlcnlsb25nc2VjcmV0a2V5Zm9ydGVzdGluZ3B1cnBvc2VzMTIzNDU2";
+    private static final long EXPIRATION = 900_000L;
+
+    private JwtService uncached;
+    private JwtService cached;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncached = jwtService(0);
+        cached = jwtService(10_000);
+        user = User.builder()
+                .id(1L)
+                .email("bench@example.com")
+                .role(Role.USER)
+                .tokenVersion(0)
+                .build();
+        token = cached.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateLegacy() {
+        return Jwts.builder()
+                .subject(user.getUsername())
+                .issuedAt(new Date(System.currentTimeMillis()))
+                .expiration(new Date(System.currentTimeMillis() + EXPIRATION))
+                .signWith(legacySigningKey(), Jwts.SIG.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public String generate() {
+        return cached.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean validateLegacy() {
+        String username = legacyClaims(token).getSubject();
+        return username.equals(user.getUsername()) && !legacyClaims(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public boolean validateReusedParser() {
+        return uncached.isTokenValid(token, user);
+    }
+
+    @Benchmark
+    public boolean validateCached() {
+        return cached.isTokenValid(token, user);
+    }
+
+    private static Claims legacyClaims(String token) {
+        return Jwts.parser()
+                .verifyWith(legacySigningKey())
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private static SecretKey legacySigningKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    }
+
+    private static JwtService jwtService(long verifiedCacheSize) {
+        JwtService service = new JwtService();
+        ReflectionTestUtils.setField(service, "secretKey", SECRET);
+        ReflectionTestUtils.setField(service, "jwtExpiration", EXPIRATION);
+        ReflectionTestUtils.setField(service, "verifiedCacheSize", verifiedCacheSize);
+        service.init();
+        return service;
+    }
+}
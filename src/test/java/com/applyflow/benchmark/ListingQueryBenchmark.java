@@ -0,0 +1,118 @@
+package com.applyflow.benchmark;
+
+import com.applyflow.ApplyFlowApplication;
+import com.applyflow.dto.JobApplicationResponse;
+import com.applyflow.entity.JobApplication;
+import com.applyflow.entity.User;
+import com.applyflow.enums.ApplicationStatus;
+import com.applyflow.enums.Role;
+import com.applyflow.mapper.JobApplicationMapper;
+import com.applyflow.repository.ApplicationListRow;
+import com.applyflow.repository.JobApplicationRepository;
+import com.applyflow.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One 20-row listing page read as managed entities and mapped (the previous path) against the
+ * {@link ApplicationListRow} projection, both in a read-only transaction on the test profile's H2
+ * database. Rows carry 2000-character notes. Add {@code -prof gc} to {@code jmh.args} to compare
+ * allocation per page ({@code gc.alloc.rate.norm}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListingQueryBenchmark {
+
+    private static final int ROWS = 1_000;
+    private static final Pageable PAGE = PageRequest.of(3, 20, Sort.by("applicationDate").descending());
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnly;
+    private EntityManager entityManager;
+    private JobApplicationRepository applicationRepository;
+    private JobApplicationMapper mapper;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ApplyFlowApplication.class)
+                .profiles("test")
+                .run();
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        entityManager = context.getBean(EntityManager.class);
+        applicationRepository = context.getBean(JobApplicationRepository.class);
+        mapper = context.getBean(JobApplicationMapper.class);
+
+        user = context.getBean(UserRepository.class).save(User.builder()
+                .name("Benchmark User")
+                .email("benchmark@example.com")
+                .password("encoded")
+                .role(Role.USER)
+                .build());
+        List<JobApplication> applications = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            applications.add(JobApplication.builder()
+                    .companyName("Company " + i)
+                    .position("Backend Developer")
+                    .status(ApplicationStatus.values()[i % ApplicationStatus.values().length])
+                    .applicationDate(LocalDate.of(2024, 1, 1).plusDays(i % 365))
+                    .salaryExpectation(new BigDecimal("120000.00"))
+                    .contactPerson("Jane HR")
+                    .notes("n".repeat(2000))
+                    .user(user)
+                    .build());
+        }
+        applicationRepository.saveAll(applications);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<JobApplicationResponse> entityPage() {
+        return readOnly.execute(status -> entityManager.createQuery(
+                        "SELECT j FROM JobApplication j WHERE j.user = :user "
+                                + "ORDER BY j.applicationDate DESC", JobApplication.class)
+                .setParameter("user", user)
+                .setFirstResult((int) PAGE.getOffset())
+                .setMaxResults(PAGE.getPageSize())
+                .getResultList()
+                .stream()
+                .map(mapper::toResponse)
+                .toList());
+    }
+
+    @Benchmark
+    public List<JobApplicationResponse> projectionPage() {
+        return readOnly.execute(status -> entityManager.createQuery(
+                        JobApplicationRepository.LIST_ROW + "FROM JobApplication j WHERE j.user = :user "
+                                + "ORDER BY j.applicationDate DESC", ApplicationListRow.class)
+                .setParameter("user", user)
+                .setFirstResult((int) PAGE.getOffset())
+                .setMaxResults(PAGE.getPageSize())
+                .getResultList()
+                .stream()
+                .map(mapper::toListResponse)
+                .toList());
+    }
+}
@@ -0,0 +1,128 @@
+package com.applyflow.benchmark;
+
+import com.applyflow.ApplyFlowApplication;
+import com.applyflow.dto.JobApplicationResponse;
+import com.applyflow.dto.PagedResponse;
+import com.applyflow.entity.User;
+import com.applyflow.repository.ApplicationListRow;
+import com.applyflow.repository.JobApplicationRepository;
+import com.applyflow.repository.UserRepository;
+import com.applyflow.service.JobApplicationSearchService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * First page of a search over one user's 10,000 applications in a 1M-row table: the listing's
+ * company-only {@code LIKE} filter, the substring fallback across company, position and notes, and
+ * the ranked full-text search. Runs against the Postgres database in
+ * {@code BENCHMARK_DATABASE_URL} (plus {@code _USERNAME} and {@code _PASSWORD}); the first run
+ * applies the migrations and seeds 100 users with 10,000 applications each, later runs reuse them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SearchBenchmark {
+
+    private static final int USERS = 100;
+    private static final int ROWS = 1_000_000;
+    private static final int PAGE_SIZE = 20;
+
+    /** "kafka" appears in a sixth of the notes, "datadog" in an eighth of the company names. */
+    @Param({"kafka", "datadog"})
+    public String term;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnly;
+    private JobApplicationRepository applicationRepository;
+    private JobApplicationSearchService searchService;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        String url = System.getenv("BENCHMARK_DATABASE_URL");
+        if (url == null) {
+            throw new IllegalStateException("Set BENCHMARK_DATABASE_URL to a scratch Postgres database");
+        }
+        context = new SpringApplicationBuilder(ApplyFlowApplication.class)
+                .profiles("test")
+                .run("--spring.datasource.url=" + url,
+                        "--spring.datasource.driver-class-name=org.postgresql.Driver",
+                        "--spring.datasource.username=" + System.getenv().getOrDefault("BENCHMARK_DATABASE_USERNAME", "postgres"),
+                        "--spring.datasource.password=" + System.getenv().getOrDefault("BENCHMARK_DATABASE_PASSWORD", ""),
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect",
+                        "--spring.jpa.hibernate.ddl-auto=validate",
+                        "--spring.flyway.enabled=true",
+                        "--application.search.full-text=true");
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        applicationRepository = context.getBean(JobApplicationRepository.class);
+        searchService = context.getBean(JobApplicationSearchService.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE email LIKE 'search%@example.com'",
+                Integer.class) == 0) {
+            seed(jdbcTemplate);
+        }
+        user = context.getBean(UserRepository.class).findByEmail("search0@example.com").orElseThrow();
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("INSERT INTO users (id, name, email, password, role, created_at) "
+                + "SELECT nextval('users_seq'), 'Search User ' || u, 'search' || u || '@example.com', "
+                + "'encoded', 'USER', now() FROM generate_series(0, ?) u", USERS - 1);
+        jdbcTemplate.update("INSERT INTO job_applications (id, company_name, position, status, application_date, "
+                + "notes, user_id, created_at, updated_at) "
+                + "SELECT nextval('job_applications_seq'), "
+                + "(ARRAY['Google','Meta','Stripe','Datadog','Shopify','Atlassian','Spotify','Klarna'])[1 + i % 8] "
+                + "|| ' ' || (i % 997), "
+                + "(ARRAY['Backend Engineer','Frontend Developer','Data Scientist','Site Reliability Engineer',"
+                + "'Product Manager'])[1 + i % 5], "
+                + "(ARRAY['APPLIED','INTERVIEW','TECHNICAL','OFFER','REJECTED'])[1 + i % 5], "
+                + "DATE '2024-01-01' + i % 365, "
+                + "'Recruiter mentioned ' || (ARRAY['kubernetes','kafka','postgres','terraform','react','spark'])"
+                + "[1 + i % 6] || ' and ' || (ARRAY['remote work','equity','on-call','relocation'])[1 + (i / 7) % 4] "
+                + "|| '. ' || repeat('Follow up next week. ', 1 + i % 10), "
+                + "u.id, now(), now() "
+                + "FROM generate_series(0, ?) i "
+                + "JOIN (SELECT id, row_number() OVER (ORDER BY id) - 1 AS n FROM users "
+                + "WHERE email LIKE 'search%@example.com') u ON u.n = i % ?", ROWS - 1, USERS);
+        jdbcTemplate.execute("ANALYZE users");
+        jdbcTemplate.execute("ANALYZE job_applications");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<ApplicationListRow> companyLike() {
+        return readOnly.execute(status -> applicationRepository.findByFilters(
+                user, null, JobApplicationRepository.containsPattern(term), null, null,
+                PageRequest.of(0, PAGE_SIZE, Sort.by("applicationDate").descending())));
+    }
+
+    @Benchmark
+    public Slice<ApplicationListRow> allColumnsLike() {
+        return readOnly.execute(status -> applicationRepository.searchContaining(
+                user, JobApplicationRepository.containsPattern(term), Long.MAX_VALUE, PageRequest.of(0, PAGE_SIZE)));
+    }
+
+    @Benchmark
+    public PagedResponse<JobApplicationResponse> fullText() {
+        return searchService.search(user, term, null, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,113 @@
+package com.applyflow.cache;
+
+import com.applyflow.config.CacheConfig;
+import com.applyflow.dto.JobApplicationResponse;
+import com.applyflow.dto.PagedResponse;
+import com.applyflow.enums.ApplicationStatus;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheValueSerializerTest {
+
+    private GenericJackson2JsonRedisSerializer legacy;
+    private CacheValueSerializer json;
+    private CacheValueSerializer smile;
+    private JobApplicationResponse response;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance,
+                ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        legacy = new GenericJackson2JsonRedisSerializer(mapper);
+        json = new CacheValueSerializer(CacheCodec.JSON, legacy, CacheConfig.cacheTypes());
+        smile = new CacheValueSerializer(CacheCodec.SMILE, legacy, CacheConfig.cacheTypes());
+
+        response = JobApplicationResponse.builder()
+                .id(42L)
+                .companyName("Google")
+                .position("Backend Developer")
+                .status(ApplicationStatus.INTERVIEW)
+                .applicationDate(LocalDate.of(2024, 3, 1))
+                .salaryExpectation(new BigDecimal("120000.00"))
+                .contactPerson("Jane HR")
+                .notes("Referral from a former colleague")
+                .createdAt(LocalDateTime.of(2024, 3, 1, 9, 30))
+                .updatedAt(LocalDateTime.of(2024, 3, 2, 14, 5))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should round-trip registered types through the binary format")
+    void registeredTypesRoundTrip() {
+        PagedResponse<JobApplicationResponse> page = PagedResponse.<JobApplicationResponse>builder()
+                .content(new ArrayList<>(List.of(response, response)))
+                .page(0).size(20).totalElements(2).totalPages(1).last(true)
+                .build();
+
+        byte[] bytes = smile.serialize(page);
+
+        assertThat(bytes[0]).isEqualTo(CacheValueSerializer.SMILE_V1);
+        assertThat(smile.deserialize(bytes)).isEqualTo(page);
+        assertThat(smile.deserialize(smile.serialize(response))).isEqualTo(response);
+        assertThat(smile.deserialize(smile.serialize("token"))).isEqualTo("token");
+    }
+
+    @Test
+    @DisplayName("Should fall back to embedded class names for unregistered types")
+    void unregisteredTypeRoundTrip() {
+        TreeMap<String, Long> value = new TreeMap<>();
+        value.put("applied", 3L);
+
+        byte[] bytes = smile.serialize(value);
+
+        assertThat(bytes[1]).isZero();
+        assertThat(smile.deserialize(bytes)).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("Should read entries written in either format regardless of the configured codec")
+    void readsBothFormats() {
+        assertThat(smile.deserialize(legacy.serialize(response))).isEqualTo(response);
+        assertThat(json.deserialize(smile.serialize(response))).isEqualTo(response);
+        assertThat(json.serialize(response)).isEqualTo(legacy.serialize(response));
+    }
+
+    @Test
+    @DisplayName("Should treat entries from an unknown format version as a miss")
+    void unknownVersionIsMiss() {
+        byte[] bytes = smile.serialize(response);
+        bytes[0] = 0x02;
+
+        assertThat(smile.deserialize(bytes)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should write smaller entries than the JSON format, especially for listing pages")
+    void smileIsSmaller() {
+        PagedResponse<JobApplicationResponse> page = PagedResponse.<JobApplicationResponse>builder()
+                .content(new ArrayList<>(Collections.nCopies(20, response)))
+                .page(0).size(20).totalElements(20).totalPages(1).last(true)
+                .build();
+
+        assertThat(smile.serialize(response).length).isLessThan(legacy.serialize(response).length);
+        assertThat(smile.serialize(page).length).isLessThan(legacy.serialize(page).length / 2);
+    }
+}
@@ -0,0 +1,124 @@
+package com.applyflow.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two "nodes" sharing one embedded Redis and one shared cache tier.
+ */
+class RedisCacheInvalidationBusTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @AfterEach
+    void stopContainers() throws Exception {
+        for (RedisMessageListenerContainer container : containers) {
+            container.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Should drop another node's local copy when an entry changes")
+    void propagatesEvictionToOtherNodes() throws Exception {
+        ConcurrentMapCacheManager shared = new ConcurrentMapCacheManager();
+        TwoLevelCacheManager nodeA = node(shared);
+        TwoLevelCacheManager nodeB = node(shared);
+
+        Cache cacheA = nodeA.getCache("applications");
+        Cache cacheB = nodeB.getCache("applications");
+        cacheA.put("1_1", "v1");
+        assertThat(cacheB.get("1_1").get()).isEqualTo("v1"); // now held in B's local tier
+
+        cacheA.put("1_1", "v2");
+
+        awaitValue(cacheB, "v2");
+        assertThat(cacheA.get("1_1").get()).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("Should ignore its own broadcasts")
+    void ignoresOwnMessages() throws Exception {
+        ConcurrentMapCacheManager shared = new ConcurrentMapCacheManager();
+        TwoLevelCacheManager nodeA = node(shared);
+        TwoLevelCache cacheA = (TwoLevelCache) nodeA.getCache("applications");
+
+        cacheA.put("1_1", "v1");
+        Thread.sleep(200);
+
+        assertThat(cacheA.getLocalCache().getIfPresent("1_1")).isEqualTo("v1");
+    }
+
+    private TwoLevelCacheManager node(ConcurrentMapCacheManager shared) throws Exception {
+        RedisCacheInvalidationBus bus = new RedisCacheInvalidationBus(new StringRedisTemplate(connectionFactory));
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(shared, bus, CacheLoadLock.NONE, Runnable::run,
+                0, 100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+        bus.bind(manager);
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(bus, new ChannelTopic(RedisCacheInvalidationBus.CHANNEL));
+        container.afterPropertiesSet();
+        container.start();
+        containers.add(container);
+        return manager;
+    }
+
+    private void awaitValue(Cache cache, Object expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            Cache.ValueWrapper value = cache.get("1_1");
+            if (value != null && expected.equals(value.get())) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        assertThat(cache.get("1_1").get()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,79 @@
+package com.applyflow.cache;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisCacheLoadLockTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should grant the lease to one node at a time")
+    void leaseIsExclusive() {
+        RedisCacheLoadLock nodeA = lock(Duration.ofSeconds(5));
+        RedisCacheLoadLock nodeB = lock(Duration.ofSeconds(5));
+
+        assertThat(nodeA.tryLock("applications", "1_1")).isTrue();
+        assertThat(nodeB.tryLock("applications", "1_1")).isFalse();
+        assertThat(nodeB.tryLock("applications", "2_1")).isTrue();
+
+        nodeB.unlock("applications", "1_1"); // not B's lease, must not release it
+        assertThat(nodeB.tryLock("applications", "1_1")).isFalse();
+
+        nodeA.unlock("applications", "1_1");
+        assertThat(nodeB.tryLock("applications", "1_1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should let the lease expire if its holder never releases it")
+    void leaseExpires() throws InterruptedException {
+        RedisCacheLoadLock nodeA = lock(Duration.ofMillis(100));
+        RedisCacheLoadLock nodeB = lock(Duration.ofMillis(100));
+
+        assertThat(nodeA.tryLock("applications", "3_1")).isTrue();
+        Thread.sleep(250);
+
+        assertThat(nodeB.tryLock("applications", "3_1")).isTrue();
+    }
+
+    private static RedisCacheLoadLock lock(Duration leaseTime) {
+        return new RedisCacheLoadLock(new StringRedisTemplate(connectionFactory), leaseTime);
+    }
+}
@@ -0,0 +1,312 @@
+package com.applyflow.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheTest {
+
+    @Mock
+    private CacheInvalidationPublisher publisher;
+
+    @Mock
+    private CacheLoadLock loadLock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrentMapCache remote;
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> local;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        remote = new ConcurrentMapCache("applications");
+        local = Caffeine.newBuilder().maximumSize(100).build();
+        cache = new TwoLevelCache("applications", local, remote, publisher, CacheLoadLock.NONE,
+                Runnable::run, 0, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should fill the local tier from the shared tier on a local miss")
+    void readThroughFromRemote() {
+        remote.put("1_1", "value");
+
+        assertThat(cache.get("1_1").get()).isEqualTo("value");
+        assertThat(local.getIfPresent("1_1")).isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("Should serve from the local tier without touching the shared tier")
+    void localHit() {
+        local.put("1_1", "local");
+        remote.put("1_1", "remote");
+
+        assertThat(cache.get("1_1").get()).isEqualTo("local");
+    }
+
+    @Test
+    @DisplayName("Should write both tiers and broadcast on put")
+    void putWritesBothTiers() {
+        cache.put("1_1", "value");
+
+        assertThat(remote.get("1_1").get()).isEqualTo("value");
+        assertThat(local.getIfPresent("1_1")).isEqualTo("value");
+        verify(publisher).evict("applications", "1_1");
+    }
+
+    @Test
+    @DisplayName("Should evict both tiers and broadcast on evict")
+    void evictBothTiers() {
+        cache.put("1_1", "value");
+
+        cache.evict("1_1");
+
+        assertThat(remote.get("1_1")).isNull();
+        assertThat(local.getIfPresent("1_1")).isNull();
+        verify(publisher, times(2)).evict("applications", "1_1");
+    }
+
+    @Test
+    @DisplayName("Should only drop the local copy for a remote invalidation")
+    void evictLocalKeepsRemote() {
+        cache.put("1_1", "value");
+
+        cache.evictLocal("1_1");
+
+        assertThat(local.getIfPresent("1_1")).isNull();
+        assertThat(remote.get("1_1").get()).isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("Should load once and populate both tiers on a full miss")
+    void loaderPopulatesBothTiers() {
+        AtomicInteger loads = new AtomicInteger();
+
+        String first = cache.get("1_1", () -> "loaded-" + loads.incrementAndGet());
+        String second = cache.get("1_1", () -> "loaded-" + loads.incrementAndGet());
+
+        assertThat(first).isEqualTo("loaded-1");
+        assertThat(second).isEqualTo("loaded-1");
+        assertThat(remote.get("1_1").get()).isEqualTo("loaded-1");
+    }
+
+    @Test
+    @DisplayName("Should work with no shared tier")
+    void localOnly() {
+        TwoLevelCache localOnly = new TwoLevelCache("applications", local, null, CacheInvalidationPublisher.NONE,
+                CacheLoadLock.NONE, Runnable::run, 0, meterRegistry);
+
+        localOnly.put("1_1", "value");
+
+        assertThat(localOnly.get("1_1").get()).isEqualTo("value");
+        localOnly.clear();
+        assertThat(localOnly.get("1_1")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should share one load between concurrent misses on the same key")
+    void concurrentMissesAreCoalesced() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(pool.submit(() -> cache.get("1_1", () -> {
+                    loads.incrementAndGet();
+                    release.await();
+                    return "loaded";
+                })));
+            }
+            while (loadCount("coalesced") < 7) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(loadCount("origin")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should wait for the node holding the load lock instead of loading")
+    void waitsForPeerLoad() {
+        when(loadLock.tryLock("applications", "1_1")).thenReturn(false);
+        when(loadLock.leaseTime()).thenReturn(Duration.ofSeconds(5));
+        TwoLevelCache peer = new TwoLevelCache("applications", local, remote, publisher, loadLock,
+                Runnable::run, 0, meterRegistry);
+        CompletableFuture.runAsync(() -> {
+            sleep(100);
+            remote.put("1_1", "from-peer");
+        });
+
+        String value = peer.get("1_1", () -> "loaded");
+
+        assertThat(value).isEqualTo("from-peer");
+        assertThat(loadCount("peer")).isEqualTo(1);
+        assertThat(loadCount("origin")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reload a hot entry in the background before it expires")
+    void refreshesAheadOfExpiry() {
+        AtomicLong now = new AtomicLong();
+        local = Caffeine.newBuilder().expireAfterWrite(Duration.ofSeconds(10)).ticker(now::get).build();
+        TwoLevelCache refreshing = new TwoLevelCache("applications", local, remote, publisher,
+                CacheLoadLock.NONE, Runnable::run, 1e12, meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(refreshing.get("1_1", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        now.addAndGet(TimeUnit.SECONDS.toNanos(9));
+
+        assertThat(refreshing.get("1_1", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(local.getIfPresent("1_1")).isEqualTo("v2");
+        assertThat(remote.get("1_1").get()).isEqualTo("v2");
+        assertThat(meterRegistry.get("applyflow.cache.refreshes").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should never refresh caches the manager excludes from refresh-ahead")
+    void excludedCachesDoNotRefresh() {
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(null, CacheInvalidationPublisher.NONE,
+                CacheLoadLock.NONE, Runnable::run, 1e12, 100, Duration.ofMinutes(1), meterRegistry)
+                .withoutRefreshAhead(UserCacheGenerations.CACHE_NAME);
+        AtomicInteger pageLoads = new AtomicInteger();
+        AtomicInteger tokenLoads = new AtomicInteger();
+        org.springframework.cache.Cache pages = manager.getCache("applicationPages");
+        org.springframework.cache.Cache tokens = manager.getCache(UserCacheGenerations.CACHE_NAME);
+
+        for (int i = 0; i < 3; i++) {
+            pages.get("1", () -> "page" + pageLoads.incrementAndGet());
+            tokens.get("1", () -> "token" + tokenLoads.incrementAndGet());
+        }
+
+        assertThat(pageLoads.get()).isGreaterThan(1);
+        assertThat(tokenLoads.get()).isEqualTo(1);
+        assertThat(tokens.get("1").get()).isEqualTo("token1");
+    }
+
+    @Test
+    @DisplayName("Should keep generation tokens longer than the cached pages they version")
+    void perCacheLocalTtl() {
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(null, CacheInvalidationPublisher.NONE,
+                CacheLoadLock.NONE, Runnable::run, 0, 100, Duration.ofMinutes(1), meterRegistry)
+                .withLocalTtl(UserCacheGenerations.CACHE_NAME, Duration.ofDays(1));
+
+        assertThat(localTtl(manager, UserCacheGenerations.CACHE_NAME)).isEqualTo(Duration.ofDays(1));
+        assertThat(localTtl(manager, "applicationPages")).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("Should not cache a value loaded while the key was being evicted")
+    void evictDuringLoadDiscardsValue() {
+        String value = cache.get("1_1", () -> {
+            cache.evict("1_1");
+            return "stale";
+        });
+
+        assertThat(value).isEqualTo("stale");
+        assertThat(local.getIfPresent("1_1")).isNull();
+        assertThat(remote.get("1_1")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should write the shared tier without blocking an evict, and drop what the evict raced with")
+    void evictDuringSharedWrite() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ConcurrentMapCache slowRemote = new ConcurrentMapCache("applications") {
+            @Override
+            public void put(Object key, Object value) {
+                writing.countDown();
+                await(release);
+                super.put(key, value);
+            }
+        };
+        TwoLevelCache slow = new TwoLevelCache("applications", local, slowRemote, publisher,
+                CacheLoadLock.NONE, Runnable::run, 0, meterRegistry);
+
+        CompletableFuture<String> load = CompletableFuture.supplyAsync(() -> slow.get("1_1", () -> "stale"));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        try {
+            CompletableFuture.runAsync(() -> slow.evict("1_1")).get(1, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+        }
+
+        assertThat(load.get(5, TimeUnit.SECONDS)).isEqualTo("stale");
+        assertThat(slowRemote.get("1_1")).isNull();
+        assertThat(local.getIfPresent("1_1")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not fill the local tier from a shared read that raced with an evict")
+    void evictDuringSharedRead() {
+        ConcurrentMapCache racingRemote = new ConcurrentMapCache("applications") {
+            @Override
+            public ValueWrapper get(Object key) {
+                ValueWrapper wrapper = super.get(key);
+                cache.evict(key); // lands between the shared read and the local fill
+                return wrapper;
+            }
+        };
+        racingRemote.put("1_1", "stale");
+        cache = new TwoLevelCache("applications", local, racingRemote, publisher, CacheLoadLock.NONE,
+                Runnable::run, 0, meterRegistry);
+
+        assertThat(cache.get("1_1").get()).isEqualTo("stale");
+        assertThat(local.getIfPresent("1_1")).isNull();
+    }
+
+    private static Duration localTtl(TwoLevelCacheManager manager, String name) {
+        return ((TwoLevelCache) manager.getCache(name)).getLocalCache().policy().expireAfterWrite()
+                .orElseThrow().getExpiresAfter();
+    }
+
+    private double loadCount(String source) {
+        return meterRegistry.get("applyflow.cache.loads").tag("source", source).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
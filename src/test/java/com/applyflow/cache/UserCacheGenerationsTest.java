@@ -0,0 +1,85 @@
+package com.applyflow.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserCacheGenerationsTest {
+
+    private ConcurrentMapCacheManager cacheManager;
+    private UserCacheGenerations generations;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager();
+        generations = new UserCacheGenerations(cacheManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep page keys stable until the user's generation is bumped")
+    void bumpChangesPageKeys() {
+        String before = generations.pageKey(1L, "APPLIED", null, PageRequest.of(0, 20));
+        assertThat(generations.pageKey(1L, "APPLIED", null, PageRequest.of(0, 20))).isEqualTo(before);
+
+        generations.bump(1L);
+
+        assertThat(generations.pageKey(1L, "APPLIED", null, PageRequest.of(0, 20))).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("Should report the generation a bump replaces and the one it installs")
+    void bumpReportsChange() {
+        String before = generations.current(1L);
+
+        UserCacheGenerations.Change change = generations.bump(1L);
+
+        assertThat(change.previous()).isEqualTo(before);
+        assertThat(change.next()).isEqualTo(generations.current(1L)).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("Should not affect other users when bumping a generation")
+    void bumpIsPerUser() {
+        String other = generations.current(2L);
+
+        generations.bump(1L);
+
+        assertThat(generations.current(2L)).isEqualTo(other);
+    }
+
+    @Test
+    @DisplayName("Should not let filter values collide across key segments")
+    void keySegmentsAreEscaped() {
+        assertThat(generations.pageKey(1L, "a:b", "c"))
+                .isNotEqualTo(generations.pageKey(1L, "a", "b:c"));
+        assertThat(generations.pageKey(1L, null, "x"))
+                .isNotEqualTo(generations.pageKey(1L, "x", null));
+    }
+
+    @Test
+    @DisplayName("Should defer the bump until the transaction commits")
+    void bumpWaitsForCommit() {
+        String before = generations.current(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        generations.bump(1L);
+        assertThat(generations.current(1L)).isEqualTo(before);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(generations.current(1L)).isNotEqualTo(before);
+    }
+}
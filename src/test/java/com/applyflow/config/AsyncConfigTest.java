@@ -0,0 +1,101 @@
+package com.applyflow.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncConfigTest {
+
+    private static final String TEST_EXECUTOR = "testExecutor";
+
+    private SimpleMeterRegistry meterRegistry;
+    private AsyncConfig asyncConfig;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        asyncConfig = new AsyncConfig(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should count rejected tasks and apply the abort policy")
+    void abortPolicy_CountsRejection() throws InterruptedException {
+        ThreadPoolTaskExecutor executor = asyncConfig.threadPool(TEST_EXECUTOR, "test-", 1, 1, 1, AsyncConfig.RejectionPolicy.ABORT);
+        executor.initialize();
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            executor.execute(() -> await(release)); // occupies the only thread
+            executor.execute(() -> { });            // fills the queue
+
+            assertThatThrownBy(() -> executor.execute(() -> { }))
+                    .isInstanceOf(TaskRejectedException.class);
+            assertThat(meterRegistry.get("executor.rejected").tag("name", TEST_EXECUTOR)
+                    .counter().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should run rejected tasks on the caller with the caller-runs policy")
+    void callerRunsPolicy_RunsOnCaller() {
+        ThreadPoolTaskExecutor executor = asyncConfig.threadPool(TEST_EXECUTOR, "test-", 1, 1, 1, AsyncConfig.RejectionPolicy.CALLER_RUNS);
+        executor.initialize();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        try {
+            executor.execute(() -> await(release));
+            executor.execute(() -> { });
+            executor.execute(() -> ranOn.set(Thread.currentThread()));
+
+            assertThat(ranOn.get()).isSameAs(Thread.currentThread());
+            assertThat(meterRegistry.get("executor.rejected").tag("name", TEST_EXECUTOR)
+                    .counter().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should send email on virtual threads when enabled")
+    void emailExecutor_VirtualThreads() throws InterruptedException {
+        AsyncTaskExecutor executor = asyncConfig.emailTaskExecutor(true, 5, 1, 1, 1, AsyncConfig.RejectionPolicy.ABORT);
+        AtomicBoolean virtual = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(1);
+
+        executor.execute(() -> {
+            virtual.set(Thread.currentThread().isVirtual());
+            done.countDown();
+        });
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(virtual).isTrue();
+        assertThat(executor).isInstanceOf(SimpleAsyncTaskExecutor.class);
+        assertThat(meterRegistry.get("executor.active").tag("name", AsyncConfig.EMAIL_EXECUTOR).gauge())
+                .isNotNull();
+        ((SimpleAsyncTaskExecutor) executor).close();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.applyflow.datasource;
+
+import com.applyflow.entity.User;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import redis.embedded.RedisServer;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Two routing data sources with their own {@link RedisRecentWriters} stand in for two nodes that
+ * share one (embedded) Redis server.
+ */
+class RedisRecentWritersTest {
+
+    private static final Duration MISS_TTL = Duration.ofMillis(100);
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final DataSource primary = mock(DataSource.class);
+    private final Map<String, DataSource> replicas = Map.of("replica-1", mock(DataSource.class));
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getRequiredConnectionFactory().getConnection().serverCommands().flushAll();
+        User user = User.builder().id(42L).email("writer@example.com").build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("Should keep a writer's reads on the primary on every node, not just the one that wrote")
+    void windowIsSharedAcrossNodes() {
+        ReplicaRoutingDataSource nodeA = node(Duration.ofMinutes(1));
+        ReplicaRoutingDataSource nodeB = node(Duration.ofMinutes(1));
+
+        commitWrite(nodeA);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(nodeB.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(redisTemplate.getExpire(RedisRecentWriters.PREFIX + 42)).isBetween(1L, 60L);
+    }
+
+    @Test
+    @DisplayName("Should send the writer's reads back to the replicas once the window has passed")
+    void windowExpires() throws InterruptedException {
+        ReplicaRoutingDataSource nodeA = node(Duration.ofMillis(200));
+        ReplicaRoutingDataSource nodeB = node(Duration.ofMillis(200));
+
+        commitWrite(nodeA);
+        Thread.sleep(300);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(nodeA.determineCurrentLookupKey()).isEqualTo("replica-1");
+        assertThat(nodeB.determineCurrentLookupKey()).isEqualTo("replica-1");
+    }
+
+    @Test
+    @DisplayName("Should fall back to this node's writes when Redis cannot be reached")
+    void failsOpenWithoutRedis() {
+        LettuceConnectionFactory unreachable = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("localhost", 1));
+        unreachable.afterPropertiesSet();
+        unreachable.start();
+        try {
+            RedisRecentWriters writers = new RedisRecentWriters(
+                    new StringRedisTemplate(unreachable), Duration.ofMinutes(1), MISS_TTL);
+
+            writers.record(1L);
+
+            assertThat(writers.contains(1L)).isTrue();
+            assertThat(writers.contains(2L)).isFalse();
+        } finally {
+            unreachable.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Should answer repeated reads of a user who did not write from this node")
+    void cachesMisses() throws InterruptedException {
+        RedisRecentWriters writers = new RedisRecentWriters(redisTemplate, Duration.ofMinutes(1), MISS_TTL);
+        assertThat(writers.contains(7L)).isFalse();
+
+        redisTemplate.opsForValue().set(RedisRecentWriters.PREFIX + 7, "1"); // a write on another node
+        assertThat(writers.contains(7L)).isFalse();
+
+        Thread.sleep(MISS_TTL.toMillis() * 2);
+        assertThat(writers.contains(7L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should stop asking Redis for a while after a lookup fails")
+    void backsOffAfterFailure() {
+        StringRedisTemplate failing = mock(StringRedisTemplate.class);
+        when(failing.hasKey(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        RedisRecentWriters writers = new RedisRecentWriters(failing, Duration.ofMinutes(1), MISS_TTL);
+
+        assertThat(writers.contains(1L)).isFalse();
+        assertThat(writers.contains(2L)).isFalse();
+
+        verify(failing, times(1)).hasKey(anyString());
+    }
+
+    private ReplicaRoutingDataSource node(Duration window) {
+        ReplicaRoutingDataSource node = new ReplicaRoutingDataSource(primary, replicas,
+                new RedisRecentWriters(redisTemplate, window, MISS_TTL));
+        node.afterPropertiesSet();
+        return node;
+    }
+
+    /**
+     * Routes a write transaction through the node and runs its commit callbacks.
+     */
+    private static void commitWrite(ReplicaRoutingDataSource node) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThat(node.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.applyflow.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replicaOne = mock(DataSource.class);
+    private final DataSource replicaTwo = mock(DataSource.class);
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replicaOne.getConnection()).thenReturn(replicaConnection);
+        when(replicaTwo.getConnection()).thenReturn(replicaConnection);
+        when(replicaConnection.isValid(2)).thenReturn(true);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replicaOne);
+        replicas.put("replica-2", replicaTwo);
+        routing = new ReplicaRoutingDataSource(primary, replicas, RecentWriters.NONE);
+        routing.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("Should send writes to the primary and spread read-only transactions over replicas")
+    void routesByReadOnlyFlag() throws SQLException {
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-1");
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-2");
+        assertThat(routing.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    @DisplayName("Should fail over to the primary when replicas are down and restore them once healthy")
+    void failsOverAndRecovers() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        doThrow(new SQLTransientConnectionException("timeout")).when(replicaOne).getConnection();
+        doThrow(new SQLTransientConnectionException("timeout")).when(replicaTwo).getConnection();
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(routing.healthyReplicas()).containsExactly("replica-2");
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(routing.healthyReplicas()).isEmpty();
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+
+        doReturn(replicaConnection).when(replicaTwo).getConnection();
+        routing.checkReplicas();
+
+        assertThat(routing.healthyReplicas()).containsExactly("replica-2");
+        assertThat(routing.getConnection()).isSameAs(replicaConnection);
+    }
+}
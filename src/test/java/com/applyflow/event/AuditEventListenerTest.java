@@ -2,7 +2,6 @@ package com.applyflow.event;
 
 import com.applyflow.entity.AuditLog;
 import com.applyflow.enums.AuditEventType;
-import com.applyflow.repository.AuditLogRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,29 +18,30 @@ import static org.mockito.Mockito.*;
 class AuditEventListenerTest {
 
     @Mock
-    private AuditLogRepository auditLogRepository;
+    private AuditLogBuffer auditLogBuffer;
 
     @InjectMocks
     private AuditEventListener auditEventListener;
 
     @Test
-    @DisplayName("Should save audit log for user registered event")
+    @DisplayName("Should queue audit log for user registered event")
     void handleAuditEvent_UserRegistered() {
         AuditEvent event = new AuditEvent(this, AuditEventType.USER_REGISTERED, 1L);
 
         auditEventListener.handleAuditEvent(event);
 
         ArgumentCaptor<AuditLog> captor = ArgumentCaptor.forClass(AuditLog.class);
-        verify(auditLogRepository).save(captor.capture());
+        verify(auditLogBuffer).enqueue(captor.capture());
 
-        AuditLog saved = captor.getValue();
-        assertThat(saved.getEventType()).isEqualTo(AuditEventType.USER_REGISTERED);
-        assertThat(saved.getUserId()).isEqualTo(1L);
-        assertThat(saved.getEntityId()).isNull();
+        AuditLog queued = captor.getValue();
+        assertThat(queued.getEventType()).isEqualTo(AuditEventType.USER_REGISTERED);
+        assertThat(queued.getUserId()).isEqualTo(1L);
+        assertThat(queued.getEntityId()).isNull();
+        assertThat(queued.getCreatedAt()).isNotNull();
     }
 
     @Test
-    @DisplayName("Should save audit log with entity ID and metadata")
+    @DisplayName("Should queue audit log with entity ID and metadata")
     void handleAuditEvent_WithEntityAndMetadata() {
         AuditEvent event = new AuditEvent(this, AuditEventType.JOB_STATUS_CHANGED,
                 1L, 42L, "APPLIED -> INTERVIEW");
@@ -49,35 +49,35 @@ class AuditEventListenerTest {
         auditEventListener.handleAuditEvent(event);
 
         ArgumentCaptor<AuditLog> captor = ArgumentCaptor.forClass(AuditLog.class);
-        verify(auditLogRepository).save(captor.capture());
+        verify(auditLogBuffer).enqueue(captor.capture());
 
-        AuditLog saved = captor.getValue();
-        assertThat(saved.getEventType()).isEqualTo(AuditEventType.JOB_STATUS_CHANGED);
-        assertThat(saved.getUserId()).isEqualTo(1L);
-        assertThat(saved.getEntityId()).isEqualTo(42L);
-        assertThat(saved.getMetadata()).isEqualTo("APPLIED -> INTERVIEW");
+        AuditLog queued = captor.getValue();
+        assertThat(queued.getEventType()).isEqualTo(AuditEventType.JOB_STATUS_CHANGED);
+        assertThat(queued.getUserId()).isEqualTo(1L);
+        assertThat(queued.getEntityId()).isEqualTo(42L);
+        assertThat(queued.getMetadata()).isEqualTo("APPLIED -> INTERVIEW");
     }
 
     @Test
-    @DisplayName("Should not throw when repository fails (fail-safe)")
-    void handleAuditEvent_RepositoryFailure() {
+    @DisplayName("Should not throw when the buffer fails (fail-safe)")
+    void handleAuditEvent_BufferFailure() {
         AuditEvent event = new AuditEvent(this, AuditEventType.USER_LOGGED_IN, 1L);
-        doThrow(new RuntimeException("DB down")).when(auditLogRepository).save(any());
+        doThrow(new RuntimeException("buffer closed")).when(auditLogBuffer).enqueue(any());
 
         // Should not throw — fail-safe behavior
         auditEventListener.handleAuditEvent(event);
 
-        verify(auditLogRepository).save(any());
+        verify(auditLogBuffer).enqueue(any());
     }
 
     @Test
-    @DisplayName("Should save all event types correctly")
+    @DisplayName("Should queue all event types correctly")
     void handleAuditEvent_AllEventTypes() {
         for (AuditEventType type : AuditEventType.values()) {
             AuditEvent event = new AuditEvent(this, type, 1L);
             auditEventListener.handleAuditEvent(event);
         }
 
-        verify(auditLogRepository, times(AuditEventType.values().length)).save(any());
+        verify(auditLogBuffer, times(AuditEventType.values().length)).enqueue(any());
     }
 }
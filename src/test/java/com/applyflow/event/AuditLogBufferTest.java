@@ -0,0 +1,166 @@
+package com.applyflow.event;
+
+import com.applyflow.entity.AuditLog;
+import com.applyflow.enums.AuditEventType;
+import com.applyflow.repository.AuditLogRepository;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditLogBufferTest {
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuditLogBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (buffer != null) {
+            buffer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should write a full batch in one saveAll call")
+    void flushesOnBatchSize() throws InterruptedException {
+        CountDownLatch flushed = new CountDownLatch(1);
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        when(auditLogRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            batchSizes.add(((List<?>) invocation.getArgument(0)).size());
+            flushed.countDown();
+            return invocation.getArgument(0);
+        });
+        buffer = newBuffer(100, 10, 60_000, AuditLogBuffer.OverflowPolicy.DROP);
+        // Fill the queue before the writer starts so the first drain sees a full batch
+        for (int i = 0; i < 10; i++) {
+            buffer.enqueue(entry());
+        }
+        buffer.start();
+
+        assertThat(flushed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(batchSizes).containsExactly(10);
+        // The writer records the flush timer after saveAll returns, so wait for it as well
+        awaitUntil(() -> flushTimer().count() > 0);
+        assertThat(flushTimer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should flush a partial batch once the interval elapses")
+    void flushesOnInterval() throws InterruptedException {
+        CountDownLatch flushed = new CountDownLatch(1);
+        when(auditLogRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            flushed.countDown();
+            return invocation.getArgument(0);
+        });
+        buffer = newBuffer(100, 50, 50, AuditLogBuffer.OverflowPolicy.DROP);
+        buffer.start();
+
+        buffer.enqueue(entry());
+        buffer.enqueue(entry());
+
+        assertThat(flushed.await(5, TimeUnit.SECONDS)).isTrue();
+        buffer.stop();
+        assertThat(meterRegistry.get("applyflow.audit.written").counter().count()).isEqualTo(2);
+        buffer = null;
+    }
+
+    @Test
+    @DisplayName("Should drop and count entries when the buffer is full")
+    void dropsWhenFull() {
+        buffer = newBuffer(2, 10, 60_000, AuditLogBuffer.OverflowPolicy.BLOCK);
+
+        assertThat(buffer.enqueue(entry())).isTrue();
+        assertThat(buffer.enqueue(entry())).isTrue();
+        assertThat(buffer.enqueue(entry())).isFalse();
+
+        assertThat(buffer.depth()).isEqualTo(2);
+        assertThat(meterRegistry.get("applyflow.audit.buffer.depth").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("applyflow.audit.dropped").tag("reason", "overflow")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should write everything still queued on shutdown")
+    void drainsOnStop() throws InterruptedException {
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        when(auditLogRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            batchSizes.add(((List<?>) invocation.getArgument(0)).size());
+            return invocation.getArgument(0);
+        });
+        buffer = newBuffer(100, 50, 60_000, AuditLogBuffer.OverflowPolicy.DROP);
+        buffer.start();
+        for (int i = 0; i < 3; i++) {
+            buffer.enqueue(entry());
+        }
+
+        buffer.stop();
+
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(3);
+        assertThat(buffer.depth()).isZero();
+        buffer = null;
+    }
+
+    @Test
+    @DisplayName("Should count a failed batch as dropped and keep running")
+    void countsFailedFlush() throws InterruptedException {
+        when(auditLogRepository.saveAll(anyList())).thenThrow(new RuntimeException("DB down"));
+        buffer = newBuffer(100, 50, 60_000, AuditLogBuffer.OverflowPolicy.DROP);
+        buffer.start();
+        buffer.enqueue(entry());
+
+        buffer.stop();
+
+        assertThat(meterRegistry.get("applyflow.audit.dropped").tag("reason", "write_failed")
+                .counter().count()).isEqualTo(1);
+        buffer = null;
+    }
+
+    private Timer flushTimer() {
+        return meterRegistry.get("applyflow.audit.flush").timer();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private AuditLogBuffer newBuffer(int capacity, int batchSize, long flushIntervalMillis,
+                                     AuditLogBuffer.OverflowPolicy policy) {
+        return new AuditLogBuffer(auditLogRepository, meterRegistry,
+                capacity, batchSize, flushIntervalMillis, policy, 10);
+    }
+
+    private AuditLog entry() {
+        return AuditLog.builder()
+                .eventType(AuditEventType.USER_LOGGED_IN)
+                .userId(1L)
+                .build();
+    }
+}
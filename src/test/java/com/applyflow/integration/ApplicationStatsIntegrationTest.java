@@ -0,0 +1,154 @@
+package com.applyflow.integration;
+
+import com.applyflow.dto.JobApplicationRequest;
+import com.applyflow.enums.ApplicationStatus;
+import com.applyflow.scheduler.StatusCountRebuildScheduler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ApplicationStatsIntegrationTest extends BaseIntegrationTest {
+
+        private static final String STATS_URL = APPLICATIONS_URL + "/stats";
+        private static final int WRITERS = 4;
+
+        @Autowired
+        private StatusCountRebuildScheduler rebuildScheduler;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Test
+        @DisplayName("Should keep per-status counts current through creates, updates, bulk moves, imports and deletes")
+        void stats_FollowEveryWrite() throws Exception {
+                String token = registerAndGetToken();
+                mockMvc.perform(get(STATS_URL)
+                                .header("Authorization", authHeader(token)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.total").value(0))
+                                .andExpect(jsonPath("$.byStatus.APPLIED").value(0));
+
+                Long first = create(token, ApplicationStatus.APPLIED);
+                Long second = create(token, ApplicationStatus.APPLIED);
+                Long third = create(token, ApplicationStatus.INTERVIEW);
+                mockMvc.perform(put(APPLICATIONS_URL + "/" + first)
+                                .header("Authorization", authHeader(token))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request(ApplicationStatus.OFFER))))
+                                .andExpect(status().isOk());
+                mockMvc.perform(patch(APPLICATIONS_URL + "/status")
+                                .header("Authorization", authHeader(token))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(Map.of(
+                                                "ids", List.of(second, third),
+                                                "status", "REJECTED"))))
+                                .andExpect(status().isOk());
+                mockMvc.perform(post(APPLICATIONS_URL + "/import")
+                                .header("Authorization", authHeader(token))
+                                .contentType("application/x-ndjson")
+                                .content("{\"companyName\":\"Stripe\",\"position\":\"Engineer\",\"applicationDate\":\"2025-01-10\"}\n"))
+                                .andExpect(status().isOk());
+                mockMvc.perform(delete(APPLICATIONS_URL + "/" + first)
+                                .header("Authorization", authHeader(token)))
+                                .andExpect(status().isNoContent());
+
+                mockMvc.perform(get(STATS_URL)
+                                .header("Authorization", authHeader(token)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.total").value(3))
+                                .andExpect(jsonPath("$.byStatus.APPLIED").value(1))
+                                .andExpect(jsonPath("$.byStatus.INTERVIEW").value(0))
+                                .andExpect(jsonPath("$.byStatus.OFFER").value(0))
+                                .andExpect(jsonPath("$.byStatus.REJECTED").value(2))
+                                .andExpect(QueryBudget.atMost(2));
+        }
+
+        @Test
+        @DisplayName("Should repair drifted and missing counters when rebuilt")
+        void rebuild_RepairsCounters() throws Exception {
+                String token = registerAndGetToken();
+                create(token, ApplicationStatus.INTERVIEW);
+                String otherToken = registerAndGetToken("Other User", "other@example.com", DEFAULT_PASSWORD);
+                create(otherToken, ApplicationStatus.OFFER);
+
+                jdbcTemplate.update("UPDATE application_status_counts SET application_count = 7 "
+                                + "WHERE status = 'INTERVIEW'");
+                jdbcTemplate.update("DELETE FROM application_status_counts WHERE status = 'OFFER'");
+                rebuildScheduler.rebuildStatusCounts();
+
+                mockMvc.perform(get(STATS_URL)
+                                .header("Authorization", authHeader(token)))
+                                .andExpect(jsonPath("$.total").value(1))
+                                .andExpect(jsonPath("$.byStatus.INTERVIEW").value(1));
+                mockMvc.perform(get(STATS_URL)
+                                .header("Authorization", authHeader(otherToken)))
+                                .andExpect(jsonPath("$.total").value(1))
+                                .andExpect(jsonPath("$.byStatus.OFFER").value(1));
+        }
+
+        @Test
+        @DisplayName("Should let concurrent first writes of a user without counters all succeed")
+        void concurrentFirstWrites_AddMissingCountersOnce() throws Exception {
+                String token = registerAndGetToken();
+                jdbcTemplate.update("DELETE FROM application_status_counts");
+
+                ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+                try {
+                        CountDownLatch start = new CountDownLatch(1);
+                        List<Future<Long>> writes = new ArrayList<>();
+                        for (int i = 0; i < WRITERS; i++) {
+                                writes.add(executor.submit(() -> {
+                                        start.await();
+                                        return create(token, ApplicationStatus.APPLIED);
+                                }));
+                        }
+                        start.countDown();
+                        for (Future<Long> write : writes) {
+                                write.get(30, TimeUnit.SECONDS);
+                        }
+                } finally {
+                        executor.shutdownNow();
+                }
+
+                mockMvc.perform(get(STATS_URL)
+                                .header("Authorization", authHeader(token)))
+                                .andExpect(jsonPath("$.total").value(WRITERS))
+                                .andExpect(jsonPath("$.byStatus.APPLIED").value(WRITERS));
+        }
+
+        private Long create(String token, ApplicationStatus status) throws Exception {
+                MvcResult result = mockMvc.perform(post(APPLICATIONS_URL)
+                                .header("Authorization", authHeader(token))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request(status))))
+                                .andExpect(status().isCreated())
+                                .andReturn();
+                return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+        }
+
+        private JobApplicationRequest request(ApplicationStatus status) {
+                return JobApplicationRequest.builder()
+                                .companyName("Google")
+                                .position("Engineer")
+                                .status(status)
+                                .applicationDate(LocalDate.now())
+                                .build();
+        }
+}
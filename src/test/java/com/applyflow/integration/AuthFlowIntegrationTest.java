@@ -111,6 +111,20 @@ class AuthFlowIntegrationTest extends BaseIntegrationTest {
                                 .andExpect(status().isOk());
         }
 
+        @Test
+        @DisplayName("Should reject the access token after logout")
+        void accessProtectedRoute_AfterLogout() throws Exception {
+                String token = registerAndGetToken();
+
+                mockMvc.perform(post("/api/auth/logout")
+                                .header("Authorization", authHeader(token)))
+                                .andExpect(status().isNoContent());
+
+                mockMvc.perform(get(APPLICATIONS_URL)
+                                .header("Authorization", authHeader(token)))
+                                .andExpect(status().isForbidden());
+        }
+
         @Test
         @DisplayName("Should reject access to protected route without token")
         void accessProtectedRoute_WithoutToken() throws Exception {
@@ -0,0 +1,111 @@
+package com.applyflow.integration;
+
+import com.applyflow.dto.JobApplicationRequest;
+import com.applyflow.entity.User;
+import com.applyflow.enums.ApplicationStatus;
+import com.applyflow.enums.Role;
+import com.applyflow.repository.UserRepository;
+import com.applyflow.service.JobApplicationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.Advised;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.interceptor.CacheInterceptor;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class CacheAdminIntegrationTest extends BaseIntegrationTest {
+
+        private static final String CACHES_URL = "/api/admin/caches";
+
+        @Autowired
+        private UserRepository userRepository;
+
+        @Autowired
+        private MeterRegistry meterRegistry;
+
+        @Autowired
+        private JobApplicationService applicationService;
+
+        @Test
+        @DisplayName("Should apply the caching advice outside the transaction advice")
+        void cacheAdviceWrapsTransactions() {
+                List<Class<?>> advice = Arrays.stream(((Advised) applicationService).getAdvisors())
+                                .<Class<?>>map(advisor -> advisor.getAdvice().getClass())
+                                .toList();
+
+                assertThat(advice.indexOf(CacheInterceptor.class))
+                                .isNotNegative()
+                                .isLessThan(advice.indexOf(TransactionInterceptor.class));
+        }
+
+        @Test
+        @DisplayName("Should report per-cache statistics and hottest keys to admins")
+        void cacheStats_Admin() throws Exception {
+                String token = registerAndGetToken();
+                Long id = createApplication(token);
+                for (int i = 0; i < 3; i++) {
+                        mockMvc.perform(get(APPLICATIONS_URL + "/" + id)
+                                        .header("Authorization", authHeader(token)))
+                                        .andExpect(status().isOk());
+                }
+                User user = userRepository.findByEmail(DEFAULT_EMAIL).orElseThrow();
+                user.setRole(Role.ADMIN);
+                userRepository.save(user);
+                String cacheKey = id + "_" + user.getId();
+
+                mockMvc.perform(get(CACHES_URL)
+                                .header("Authorization", authHeader(token)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$[?(@.name == 'applications')].localSize").value(hasItem(1)))
+                                .andExpect(jsonPath("$[?(@.name == 'applications')].localHits").value(hasItem(2)))
+                                .andExpect(jsonPath("$[?(@.name == 'applications')].loads").value(hasItem(1)))
+                                .andExpect(jsonPath("$[?(@.name == 'applications')].hottestKeys[0]").value(hasItem(cacheKey)));
+
+                assertThat(meterRegistry.get("cache.gets").tag("cache", "applications").tag("tier", "local")
+                                .tag("result", "hit").functionCounter().count()).isEqualTo(2);
+                assertThat(meterRegistry.get("applyflow.cache.load").tag("cache", "applications")
+                                .timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should forbid cache statistics to regular users")
+        void cacheStats_ForbiddenForUsers() throws Exception {
+                String token = registerAndGetToken();
+
+                mockMvc.perform(get(CACHES_URL)
+                                .header("Authorization", authHeader(token)))
+                                .andExpect(status().isForbidden());
+        }
+
+        private Long createApplication(String token) throws Exception {
+                JobApplicationRequest request = JobApplicationRequest.builder()
+                                .companyName("Google")
+                                .position("Software Engineer")
+                                .status(ApplicationStatus.APPLIED)
+                                .applicationDate(LocalDate.now())
+                                .build();
+
+                MvcResult result = mockMvc.perform(post(APPLICATIONS_URL)
+                                .header("Authorization", authHeader(token))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isCreated())
+                                .andReturn();
+
+                return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+        }
+}
@@ -0,0 +1,115 @@
+package com.applyflow.integration;
+
+import com.applyflow.entity.JobApplication;
+import com.applyflow.entity.StatusHistory;
+import com.applyflow.entity.User;
+import com.applyflow.enums.ApplicationStatus;
+import com.applyflow.enums.Role;
+import com.applyflow.repository.JobApplicationRepository;
+import com.applyflow.repository.StatusHistoryRepository;
+import com.applyflow.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hibernate prepares one statement per JDBC batch, so a prepared-statement count far below the
+ * row count shows that rows went out in batches rather than one round trip each.
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class JdbcBatchingIntegrationTest extends BaseIntegrationTest {
+
+        private static final int ROWS = 40;
+
+        @Autowired
+        private EntityManagerFactory entityManagerFactory;
+
+        @Autowired
+        private TransactionTemplate transactionTemplate;
+
+        @Autowired
+        private UserRepository userRepository;
+
+        @Autowired
+        private JobApplicationRepository applicationRepository;
+
+        @Autowired
+        private StatusHistoryRepository statusHistoryRepository;
+
+        private Statistics statistics;
+        private User user;
+
+        @BeforeEach
+        void setUp() {
+                statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+                user = userRepository.save(User.builder()
+                                .name("Batch User")
+                                .email("batch@example.com")
+                                .password("encoded")
+                                .role(Role.USER)
+                                .build());
+                statistics.clear();
+        }
+
+        @Test
+        @DisplayName("Should batch interleaved inserts of applications and their history")
+        void insertsAreBatched() {
+                transactionTemplate.executeWithoutResult(status -> {
+                        for (int i = 0; i < ROWS; i++) {
+                                JobApplication application = applicationRepository.save(application(i));
+                                statusHistoryRepository.save(StatusHistory.builder()
+                                                .jobApplication(application)
+                                                .previousStatus(ApplicationStatus.APPLIED)
+                                                .newStatus(ApplicationStatus.APPLIED)
+                                                .build());
+                        }
+                });
+
+                assertThat(statistics.getEntityInsertCount()).isEqualTo(2L * ROWS);
+                // one batch per table plus the sequence calls; the pooled optimizer reads a sequence
+                // twice on first use, then once per 50 ids
+                assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+        }
+
+        @Test
+        @DisplayName("Should batch updates of many applications")
+        void updatesAreBatched() {
+                List<JobApplication> applications = new ArrayList<>();
+                for (int i = 0; i < ROWS; i++) {
+                        applications.add(application(i));
+                }
+                List<Long> ids = applicationRepository.saveAll(applications).stream()
+                                .map(JobApplication::getId)
+                                .toList();
+                statistics.clear();
+
+                transactionTemplate.executeWithoutResult(status -> applicationRepository.findAllById(ids)
+                                .forEach(application -> application.setStatus(ApplicationStatus.INTERVIEW)));
+
+                assertThat(statistics.getEntityUpdateCount()).isEqualTo(ROWS);
+                // the select plus one update batch
+                assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        }
+
+        private JobApplication application(int i) {
+                return JobApplication.builder()
+                                .companyName("Company " + i)
+                                .position("Engineer")
+                                .status(ApplicationStatus.APPLIED)
+                                .applicationDate(LocalDate.now())
+                                .user(user)
+                                .build();
+        }
+}
@@ -2,20 +2,33 @@ package com.applyflow.integration;
 
 import com.applyflow.dto.JobApplicationRequest;
 import com.applyflow.enums.ApplicationStatus;
+import com.applyflow.scheduler.ReminderScheduler;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 class JobApplicationFlowIntegrationTest extends BaseIntegrationTest {
 
+        @Autowired
+        private ReminderScheduler reminderScheduler;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
         private JobApplicationRequest createSampleRequest() {
                 return JobApplicationRequest.builder()
                                 .companyName("Google")
@@ -41,7 +54,8 @@ class JobApplicationFlowIntegrationTest extends BaseIntegrationTest {
                                 .andExpect(status().isCreated())
                                 .andExpect(jsonPath("$.companyName").value("Google"))
                                 .andExpect(jsonPath("$.position").value("Software Engineer"))
-                                .andExpect(jsonPath("$.status").value("APPLIED"));
+                                .andExpect(jsonPath("$.status").value("APPLIED"))
+                                .andExpect(QueryBudget.atMost(4));
         }
 
         @Test
@@ -67,7 +81,8 @@ class JobApplicationFlowIntegrationTest extends BaseIntegrationTest {
                                 .header("Authorization", authHeader(token)))
                                 .andExpect(status().isOk())
                                 .andExpect(jsonPath("$.id").value(id))
-                                .andExpect(jsonPath("$.companyName").value("Google"));
+                                .andExpect(jsonPath("$.companyName").value("Google"))
+                                .andExpect(QueryBudget.atMost(2));
         }
 
         @Test
@@ -107,7 +122,70 @@ class JobApplicationFlowIntegrationTest extends BaseIntegrationTest {
                                 .andExpect(status().isOk())
                                 .andExpect(jsonPath("$.content", hasSize(2)))
                                 .andExpect(jsonPath("$.totalElements").value(3))
-                                .andExpect(jsonPath("$.totalPages").value(2));
+                                .andExpect(jsonPath("$.totalPages").value(2))
+                                .andExpect(QueryBudget.atMost(3));
+        }
+
+        @Test
+        @DisplayName("Should page through applications with a cursor")
+        void getAll_WithCursor() throws Exception {
+                String token = registerAndGetToken();
+                for (int i = 0; i < 3; i++) {
+                        createAndReturnId(token);
+                }
+
+                MvcResult firstPage = mockMvc.perform(get(APPLICATIONS_URL)
+                                .header("Authorization", authHeader(token))
+                                .param("cursor", "true")
+                                .param("size", "2"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content", hasSize(2)))
+                                .andExpect(jsonPath("$.last").value(false))
+                                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                                .andReturn();
+
+                String nextCursor = objectMapper.readTree(firstPage.getResponse().getContentAsString())
+                                .get("nextCursor").asText();
+
+                mockMvc.perform(get(APPLICATIONS_URL)
+                                .header("Authorization", authHeader(token))
+                                .param("after", nextCursor)
+                                .param("size", "2"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content", hasSize(1)))
+                                .andExpect(jsonPath("$.last").value(true))
+                                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Should keep the cursor page size within bounds")
+        void getAll_CursorSizeClamped() throws Exception {
+                String token = registerAndGetToken();
+                createAndReturnId(token);
+
+                mockMvc.perform(get(APPLICATIONS_URL)
+                                .header("Authorization", authHeader(token))
+                                .param("cursor", "true")
+                                .param("size", "0"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content", hasSize(1)));
+        }
+
+        @Test
+        @DisplayName("Should reject a malformed cursor and cursor paging on another sort key")
+        void getAll_InvalidCursor() throws Exception {
+                String token = registerAndGetToken();
+
+                mockMvc.perform(get(APPLICATIONS_URL)
+                                .header("Authorization", authHeader(token))
+                                .param("after", "not-a-cursor"))
+                                .andExpect(status().isBadRequest());
+
+                mockMvc.perform(get(APPLICATIONS_URL)
+                                .header("Authorization", authHeader(token))
+                                .param("cursor", "true")
+                                .param("sortBy", "companyName"))
+                                .andExpect(status().isBadRequest());
         }
 
         @Test
@@ -140,6 +218,338 @@ class JobApplicationFlowIntegrationTest extends BaseIntegrationTest {
                                 .andExpect(jsonPath("$.content[0].companyName").value("Meta"));
         }
 
+        @Test
+        @DisplayName("Should search company, position and notes and page through the matches")
+        void search_SubstringFallback() throws Exception {
+                String token = registerAndGetToken();
+                String[][] rows = {
+                                {"Confluent", "Engineer", null},
+                                {"Google", "Kafka Platform Engineer", null},
+                                {"Meta", "Engineer", "Team runs KAFKA at scale"},
+                                {"Stripe", "Engineer", "Payments"}};
+                for (String[] row : rows) {
+                        mockMvc.perform(post(APPLICATIONS_URL)
+                                        .header("Authorization", authHeader(token))
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(JobApplicationRequest.builder()
+                                                        .companyName(row[0])
+                                                        .position(row[1])
+                                                        .notes(row[2])
+                                                        .applicationDate(LocalDate.now())
+                                                        .build())))
+                                        .andExpect(status().isCreated());
+                }
+
+                MvcResult first = mockMvc.perform(get(APPLICATIONS_URL + "/search")
+                                .header("Authorization", authHeader(token))
+                                .param("q", "kafka")
+                                .param("size", "1"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content[0].companyName").value("Meta"))
+                                .andExpect(jsonPath("$.last").value(false))
+                                .andExpect(QueryBudget.atMost(2))
+                                .andReturn();
+                String after = objectMapper.readTree(first.getResponse().getContentAsString())
+                                .get("nextCursor").asText();
+
+                mockMvc.perform(get(APPLICATIONS_URL + "/search")
+                                .header("Authorization", authHeader(token))
+                                .param("q", "kafka")
+                                .param("size", "5")
+                                .param("after", after))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content[*].companyName", contains("Google")))
+                                .andExpect(jsonPath("$.last").value(true));
+
+                mockMvc.perform(get(APPLICATIONS_URL + "/search")
+                                .header("Authorization", authHeader(token))
+                                .param("q", " "))
+                                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Should suggest company names from memory and follow creates, renames and deletes")
+        void suggest_FollowsChanges() throws Exception {
+                String token = registerAndGetToken();
+                Long id = createAndReturnId(token);
+
+                mockMvc.perform(get(APPLICATIONS_URL + "/suggest")
+                                .header("Authorization", authHeader(token))
+                                .param("prefix", "go"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$", contains("Google")));
+
+                JobApplicationRequest other = createSampleRequest();
+                other.setCompanyName("GoCardless");
+                other.setPosition("Platform Engineer");
+                mockMvc.perform(post(APPLICATIONS_URL)
+                                .header("Authorization", authHeader(token))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(other)))
+                                .andExpect(status().isCreated());
+                // only the authentication lookup: the index was updated in place, not reloaded
+                mockMvc.perform(get(APPLICATIONS_URL + "/suggest")
+                                .header("Authorization", authHeader(token))
+                                .param("prefix", " GO"))
+                                .andExpect(jsonPath("$", contains("GoCardless", "Google")))
+                                .andExpect(QueryBudget.atMost(1));
+                mockMvc.perform(get(APPLICATIONS_URL + "/suggest")
+                                .header("Authorization", authHeader(token))
+                                .param("prefix", "plat")
+                                .param("field", "POSITION"))
+                                .andExpect(jsonPath("$", contains("Platform Engineer")));
+
+                JobApplicationRequest renamed = createSampleRequest();
+                renamed.setCompanyName("Alphabet");
+                mockMvc.perform(put(APPLICATIONS_URL + "/" + id)
+                                .header("Authorization", authHeader(token))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(renamed)))
+                                .andExpect(status().isOk());
+                mockMvc.perform(get(APPLICATIONS_URL + "/suggest")
+                                .header("Authorization", authHeader(token))
+                                .param("prefix", "go"))
+                                .andExpect(jsonPath("$", contains("GoCardless")))
+                                .andExpect(QueryBudget.atMost(1));
+
+                mockMvc.perform(delete(APPLICATIONS_URL + "/" + id)
+                                .header("Authorization", authHeader(token)))
+                                .andExpect(status().isNoContent());
+                mockMvc.perform(get(APPLICATIONS_URL + "/suggest")
+                                .header("Authorization", authHeader(token))
+                                .param("prefix", "al"))
+                                .andExpect(jsonPath("$", hasSize(0)));
+        }
+
+        @Test
+        @DisplayName("Should stream filtered applications as NDJSON")
+        void export_Ndjson() throws Exception {
+                String token = registerAndGetToken();
+                createAndReturnId(token);
+
+                JobApplicationRequest other = createSampleRequest();
+                other.setCompanyName("Meta");
+                mockMvc.perform(post(APPLICATIONS_URL)
+                                .header("Authorization", authHeader(token))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(other)))
+                                .andExpect(status().isCreated());
+
+                MvcResult started = mockMvc.perform(get(APPLICATIONS_URL + "/export")
+                                .header("Authorization", authHeader(token))
+                                .param("companyName", "goo"))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                String body = mockMvc.perform(asyncDispatch(started))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentType("application/x-ndjson"))
+                                .andExpect(header().string("Content-Disposition",
+                                                containsString("applications.ndjson")))
+                                .andReturn().getResponse().getContentAsString();
+
+                String[] lines = body.split("\n");
+                assertThat(lines).hasSize(1);
+                assertThat(
+                                objectMapper.readTree(lines[0]).get("companyName").asText()).isEqualTo("Google");
+        }
+
+        @Test
+        @DisplayName("Should stream applications as CSV with escaped fields")
+        void export_Csv() throws Exception {
+                String token = registerAndGetToken();
+
+                JobApplicationRequest request = createSampleRequest();
+                request.setNotes("Referral, \"fast track\"");
+                mockMvc.perform(post(APPLICATIONS_URL)
+                                .header("Authorization", authHeader(token))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isCreated());
+
+                MvcResult started = mockMvc.perform(get(APPLICATIONS_URL + "/export")
+                                .header("Authorization", authHeader(token))
+                                .param("format", "CSV"))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                String body = mockMvc.perform(asyncDispatch(started))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                                .andReturn().getResponse().getContentAsString();
+
+                String[] lines = body.split("\n");
+                assertThat(lines).hasSize(2);
+                assertThat(lines[0]).startsWith("id,companyName,position,status");
+                assertThat(lines[1])
+                                .contains(",Google,Software Engineer,APPLIED,")
+                                .contains(",\"Referral, \"\"fast track\"\"\",");
+        }
+
+        @Test
+        @DisplayName("Should keep CSV cells that look like formulas as text")
+        void export_CsvFormulaInjection() throws Exception {
+                String token = registerAndGetToken();
+
+                JobApplicationRequest request = createSampleRequest();
+                request.setCompanyName("=HYPERLINK(\"http://evil.example\",\"Click\")");
+                request.setPosition("+Engineer");
+                request.setContactPerson("@SUM(A1:A9)");
+                request.setNotes("-1+1");
+                mockMvc.perform(post(APPLICATIONS_URL)
+                                .header("Authorization", authHeader(token))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isCreated());
+
+                MvcResult started = mockMvc.perform(get(APPLICATIONS_URL + "/export")
+                                .header("Authorization", authHeader(token))
+                                .param("format", "CSV"))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                String body = mockMvc.perform(asyncDispatch(started))
+                                .andExpect(status().isOk())
+                                .andReturn().getResponse().getContentAsString();
+
+                assertThat(body.split("\n")[1])
+                                .contains(",\"'=HYPERLINK(\"\"http://evil.example\"\",\"\"Click\"\")\",")
+                                .contains(",'+Engineer,")
+                                .contains(",'@SUM(A1:A9),'-1+1,");
+        }
+
+        @Test
+        @DisplayName("Should import valid NDJSON rows and report the invalid ones by line")
+        void import_Ndjson() throws Exception {
+                String token = registerAndGetToken();
+                String body = """
+                                {"companyName":"Google","position":"Engineer","status":"INTERVIEW","applicationDate":"2024-03-01"}
+                                {"companyName":"","position":"Engineer","applicationDate":"2024-03-01"}
+                                {"companyName":"Meta",
+
+                                {"companyName":"Stripe","position":"Backend","applicationDate":"2024-03-02","salaryExpectation":95000}
+                                """;
+
+                mockMvc.perform(post(APPLICATIONS_URL + "/import")
+                                .header("Authorization", authHeader(token))
+                                .contentType("application/x-ndjson")
+                                .content(body))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.imported").value(2))
+                                .andExpect(jsonPath("$.failed").value(2))
+                                .andExpect(jsonPath("$.aborted").value(false))
+                                .andExpect(jsonPath("$.errors[0].line").value(2))
+                                .andExpect(jsonPath("$.errors[1].line").value(3))
+                                .andExpect(jsonPath("$.errors[1].messages[0]", startsWith("Malformed JSON")));
+
+                mockMvc.perform(get(APPLICATIONS_URL)
+                                .header("Authorization", authHeader(token)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.totalElements").value(2))
+                                .andExpect(jsonPath("$.content[*].companyName",
+                                                containsInAnyOrder("Google", "Stripe")));
+        }
+
+        @Test
+        @DisplayName("Should import CSV by header name, including quoted multi-line fields")
+        void import_Csv() throws Exception {
+                String token = registerAndGetToken();
+                String body = "\uFEFFPosition,companyName,status,applicationDate,notes\r\n"
+                                + "Engineer,Google,APPLIED,2024-03-01,\"Referral, \"\"fast track\"\"\nsecond line\"\r\n"
+                                + "Designer,Figma,HIRED,2024-03-02,\r\n"
+                                + "Analyst,Meta,APPLIED,yesterday,\r\n";
+
+                mockMvc.perform(post(APPLICATIONS_URL + "/import")
+                                .header("Authorization", authHeader(token))
+                                .param("format", "CSV")
+                                .contentType("text/csv")
+                                .content(body))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.imported").value(1))
+                                .andExpect(jsonPath("$.failed").value(2))
+                                .andExpect(jsonPath("$.errors[0].line").value(4))
+                                .andExpect(jsonPath("$.errors[0].messages[0]").value("Invalid status: HIRED"))
+                                .andExpect(jsonPath("$.errors[1].line").value(5))
+                                .andExpect(jsonPath("$.errors[1].messages",
+                                                hasItem("Invalid applicationDate: yesterday")));
+
+                MvcResult listing = mockMvc.perform(get(APPLICATIONS_URL)
+                                .header("Authorization", authHeader(token)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content", hasSize(1)))
+                                .andExpect(jsonPath("$.content[0].position").value("Engineer"))
+                                .andReturn();
+                long id = objectMapper.readTree(listing.getResponse().getContentAsString())
+                                .at("/content/0/id").asLong();
+
+                mockMvc.perform(get(APPLICATIONS_URL + "/" + id)
+                                .header("Authorization", authHeader(token)))
+                                .andExpect(jsonPath("$.notes").value("Referral, \"fast track\"\nsecond line"));
+        }
+
+        @Test
+        @DisplayName("Should import formula-like cells of an exported CSV as they were entered")
+        void import_CsvExportRoundTrip() throws Exception {
+                String token = registerAndGetToken();
+
+                JobApplicationRequest request = createSampleRequest();
+                request.setCompanyName("@Home");
+                request.setPosition("+Engineer");
+                request.setContactPerson("'quoted'");
+                request.setNotes("=1+1");
+                mockMvc.perform(post(APPLICATIONS_URL)
+                                .header("Authorization", authHeader(token))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isCreated());
+
+                MvcResult started = mockMvc.perform(get(APPLICATIONS_URL + "/export")
+                                .header("Authorization", authHeader(token))
+                                .param("format", "CSV"))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+                String exported = mockMvc.perform(asyncDispatch(started))
+                                .andExpect(status().isOk())
+                                .andReturn().getResponse().getContentAsString();
+
+                String otherToken = registerAndGetToken("Other User", "other@example.com", DEFAULT_PASSWORD);
+                mockMvc.perform(post(APPLICATIONS_URL + "/import")
+                                .header("Authorization", authHeader(otherToken))
+                                .param("format", "CSV")
+                                .contentType("text/csv")
+                                .content(exported))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.imported").value(1));
+
+                MvcResult listing = mockMvc.perform(get(APPLICATIONS_URL)
+                                .header("Authorization", authHeader(otherToken)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content", hasSize(1)))
+                                .andReturn();
+                long id = objectMapper.readTree(listing.getResponse().getContentAsString())
+                                .at("/content/0/id").asLong();
+
+                mockMvc.perform(get(APPLICATIONS_URL + "/" + id)
+                                .header("Authorization", authHeader(otherToken)))
+                                .andExpect(jsonPath("$.companyName").value("@Home"))
+                                .andExpect(jsonPath("$.position").value("+Engineer"))
+                                .andExpect(jsonPath("$.contactPerson").value("'quoted'"))
+                                .andExpect(jsonPath("$.notes").value("=1+1"));
+        }
+
+        @Test
+        @DisplayName("Should reject a CSV import without the required columns")
+        void import_CsvMissingColumns() throws Exception {
+                String token = registerAndGetToken();
+
+                mockMvc.perform(post(APPLICATIONS_URL + "/import")
+                                .header("Authorization", authHeader(token))
+                                .param("format", "CSV")
+                                .contentType("text/csv")
+                                .content("company,role\nGoogle,Engineer\n"))
+                                .andExpect(status().isBadRequest());
+        }
+
         @Test
         @DisplayName("Should update a job application")
         void updateApplication_Success() throws Exception {
@@ -156,7 +566,90 @@ class JobApplicationFlowIntegrationTest extends BaseIntegrationTest {
                                 .content(objectMapper.writeValueAsString(updateRequest)))
                                 .andExpect(status().isOk())
                                 .andExpect(jsonPath("$.position").value("Senior Software Engineer"))
-                                .andExpect(jsonPath("$.status").value("INTERVIEW"));
+                                .andExpect(jsonPath("$.status").value("INTERVIEW"))
+                                .andExpect(QueryBudget.atMost(7));
+        }
+
+        @Test
+        @DisplayName("Should not serve a cached listing after one of its applications changes")
+        void getAll_RefreshedAfterUpdate() throws Exception {
+                String token = registerAndGetToken();
+                Long id = createAndReturnId(token);
+
+                mockMvc.perform(get(APPLICATIONS_URL)
+                                .header("Authorization", authHeader(token)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content[0].position").value("Software Engineer"));
+
+                JobApplicationRequest updateRequest = createSampleRequest();
+                updateRequest.setPosition("Staff Engineer");
+                mockMvc.perform(put(APPLICATIONS_URL + "/" + id)
+                                .header("Authorization", authHeader(token))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(updateRequest)))
+                                .andExpect(status().isOk());
+
+                mockMvc.perform(get(APPLICATIONS_URL)
+                                .header("Authorization", authHeader(token)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content[0].position").value("Staff Engineer"));
+
+                createAndReturnId(token);
+                mockMvc.perform(get(APPLICATIONS_URL)
+                                .header("Authorization", authHeader(token)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.totalElements").value(2));
+        }
+
+        @Test
+        @DisplayName("Should move several applications to one status and record their history")
+        void updateStatuses_Bulk() throws Exception {
+                String otherToken = registerAndGetToken("Other User", "other@example.com", DEFAULT_PASSWORD);
+                Long foreignId = createAndReturnId(otherToken);
+                String token = registerAndGetToken();
+                Long first = createAndReturnId(token);
+                Long second = createAndReturnId(token);
+
+                mockMvc.perform(get(APPLICATIONS_URL + "/" + first)
+                                .header("Authorization", authHeader(token)))
+                                .andExpect(jsonPath("$.status").value("APPLIED"));
+
+                mockMvc.perform(patch(APPLICATIONS_URL + "/status")
+                                .header("Authorization", authHeader(token))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(Map.of(
+                                                "ids", List.of(first, second, foreignId),
+                                                "status", "REJECTED"))))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.updated", contains(first.intValue(), second.intValue())))
+                                .andExpect(jsonPath("$.notFound", contains(foreignId.intValue())))
+                                .andExpect(QueryBudget.atMost(8));
+
+                mockMvc.perform(get(APPLICATIONS_URL + "/" + first)
+                                .header("Authorization", authHeader(token)))
+                                .andExpect(jsonPath("$.status").value("REJECTED"));
+                mockMvc.perform(get(APPLICATIONS_URL + "/" + second + "/history")
+                                .header("Authorization", authHeader(token)))
+                                .andExpect(jsonPath("$", hasSize(1)))
+                                .andExpect(jsonPath("$[0].previousStatus").value("APPLIED"))
+                                .andExpect(jsonPath("$[0].newStatus").value("REJECTED"));
+                mockMvc.perform(get(APPLICATIONS_URL)
+                                .header("Authorization", authHeader(token))
+                                .param("status", "REJECTED"))
+                                .andExpect(jsonPath("$.totalElements").value(2));
+                mockMvc.perform(get(APPLICATIONS_URL + "/" + foreignId)
+                                .header("Authorization", authHeader(otherToken)))
+                                .andExpect(jsonPath("$.status").value("APPLIED"));
+
+                mockMvc.perform(patch(APPLICATIONS_URL + "/status")
+                                .header("Authorization", authHeader(token))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(Map.of(
+                                                "ids", List.of(first),
+                                                "status", "REJECTED"))))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.updated", hasSize(0)))
+                                .andExpect(jsonPath("$.unchanged", contains(first.intValue())));
         }
 
         @Test
@@ -193,7 +686,58 @@ class JobApplicationFlowIntegrationTest extends BaseIntegrationTest {
                                 .andExpect(status().isOk())
                                 .andExpect(jsonPath("$", hasSize(1)))
                                 .andExpect(jsonPath("$[0].previousStatus").value("APPLIED"))
-                                .andExpect(jsonPath("$[0].newStatus").value("INTERVIEW"));
+                                .andExpect(jsonPath("$[0].newStatus").value("INTERVIEW"))
+                                .andExpect(QueryBudget.atMost(2));
+        }
+
+        @Test
+        @DisplayName("Should return the histories of several applications in one query")
+        void getStatusHistories_Batch() throws Exception {
+                String otherToken = registerAndGetToken("Other User", "other@example.com", DEFAULT_PASSWORD);
+                Long foreignId = createAndReturnId(otherToken);
+                String token = registerAndGetToken();
+                Long first = createAndReturnId(token);
+                Long untouched = createAndReturnId(token);
+
+                JobApplicationRequest updateRequest = createSampleRequest();
+                for (ApplicationStatus status : List.of(ApplicationStatus.INTERVIEW, ApplicationStatus.OFFER)) {
+                        updateRequest.setStatus(status);
+                        mockMvc.perform(put(APPLICATIONS_URL + "/" + first)
+                                        .header("Authorization", authHeader(token))
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(updateRequest)))
+                                        .andExpect(status().isOk());
+                }
+
+                mockMvc.perform(get(APPLICATIONS_URL + "/history")
+                                .header("Authorization", authHeader(token))
+                                .param("ids", first + "," + untouched + "," + foreignId + ",999"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.length()").value(2))
+                                .andExpect(jsonPath("$['" + first + "']", hasSize(2)))
+                                .andExpect(jsonPath("$['" + first + "'][0].newStatus").value("OFFER"))
+                                .andExpect(jsonPath("$['" + first + "'][1].newStatus").value("INTERVIEW"))
+                                .andExpect(jsonPath("$['" + untouched + "']", hasSize(0)))
+                                .andExpect(QueryBudget.atMost(2));
+
+                mockMvc.perform(get(APPLICATIONS_URL + "/" + foreignId + "/history")
+                                .header("Authorization", authHeader(token)))
+                                .andExpect(status().isNotFound());
+                mockMvc.perform(get(APPLICATIONS_URL + "/" + untouched + "/history")
+                                .header("Authorization", authHeader(token)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$", hasSize(0)));
+        }
+
+        @Test
+        @DisplayName("Should load stale applications and their owners in one query for reminders")
+        void staleReminders_SingleQuery() throws Exception {
+                createAndReturnId(registerAndGetToken("User1", "user1@example.com", "password123"));
+                createAndReturnId(registerAndGetToken("User2", "user2@example.com", "password123"));
+                jdbcTemplate.update("UPDATE job_applications SET updated_at = DATEADD('DAY', -30, updated_at)");
+                ReflectionTestUtils.setField(reminderScheduler, "reminderEnabled", true);
+
+                assertThat(QueryBudget.count(reminderScheduler::sendStaleApplicationReminders)).isEqualTo(1);
         }
 
         @Test
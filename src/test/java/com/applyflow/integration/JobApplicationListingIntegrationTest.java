@@ -0,0 +1,103 @@
+package com.applyflow.integration;
+
+import com.applyflow.entity.JobApplication;
+import com.applyflow.entity.User;
+import com.applyflow.enums.ApplicationStatus;
+import com.applyflow.repository.JobApplicationRepository;
+import com.applyflow.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Listings are read as {@code ApplicationListRow} projections; Hibernate statistics show that no
+ * {@link JobApplication} entity is hydrated to serve a page.
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class JobApplicationListingIntegrationTest extends BaseIntegrationTest {
+
+        private static final int ROWS = 30;
+
+        @Autowired
+        private EntityManagerFactory entityManagerFactory;
+
+        @Autowired
+        private UserRepository userRepository;
+
+        @Autowired
+        private JobApplicationRepository applicationRepository;
+
+        private Statistics statistics;
+        private String token;
+
+        @BeforeEach
+        void setUp() throws Exception {
+                token = registerAndGetToken();
+                User user = userRepository.findByEmail(DEFAULT_EMAIL).orElseThrow();
+                List<JobApplication> applications = new ArrayList<>();
+                for (int i = 0; i < ROWS; i++) {
+                        applications.add(JobApplication.builder()
+                                        .companyName("Company " + i)
+                                        .position("Engineer")
+                                        .status(i % 3 == 0 ? ApplicationStatus.INTERVIEW : ApplicationStatus.APPLIED)
+                                        .applicationDate(LocalDate.now().minusDays(i))
+                                        .notes("n".repeat(2000))
+                                        .user(user)
+                                        .build());
+                }
+                applicationRepository.saveAll(applications);
+                statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+                statistics.clear();
+        }
+
+        @Test
+        @DisplayName("Should serve offset pages from projections without loading entities or notes")
+        void offsetPage_UsesProjection() throws Exception {
+                mockMvc.perform(get(APPLICATIONS_URL)
+                                .header("Authorization", authHeader(token))
+                                .param("status", "INTERVIEW")
+                                .param("size", "4")
+                                .param("sortBy", "companyName")
+                                .param("sortDir", "asc"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content", hasSize(4)))
+                                .andExpect(jsonPath("$.content[0].companyName").value("Company 0"))
+                                .andExpect(jsonPath("$.content[0].createdAt").isNotEmpty())
+                                .andExpect(jsonPath("$.content[0].notes").value(nullValue()))
+                                .andExpect(jsonPath("$.totalElements").value(ROWS / 3));
+
+                assertThat(statistics.getEntityStatistics(JobApplication.class.getName()).getLoadCount())
+                                .isZero();
+        }
+
+        @Test
+        @DisplayName("Should serve keyset pages from projections without loading entities")
+        void keysetPage_UsesProjection() throws Exception {
+                mockMvc.perform(get(APPLICATIONS_URL)
+                                .header("Authorization", authHeader(token))
+                                .param("cursor", "true")
+                                .param("size", "10"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content", hasSize(10)))
+                                .andExpect(jsonPath("$.nextCursor").isNotEmpty());
+
+                assertThat(statistics.getEntityStatistics(JobApplication.class.getName()).getLoadCount())
+                                .isZero();
+        }
+}
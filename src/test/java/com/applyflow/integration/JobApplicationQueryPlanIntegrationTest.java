@@ -0,0 +1,139 @@
+package com.applyflow.integration;
+
+import com.applyflow.entity.JobApplication;
+import com.applyflow.entity.User;
+import com.applyflow.enums.ApplicationStatus;
+import com.applyflow.enums.Role;
+import com.applyflow.repository.JobApplicationRepository;
+import com.applyflow.repository.UserRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.applyflow.integration.JobApplicationQueryPlanIntegrationTest$CapturedStatements")
+class JobApplicationQueryPlanIntegrationTest extends BaseIntegrationTest {
+
+        private static final int USERS = 20;
+        private static final int APPLICATIONS_PER_USER = 50;
+
+        @Autowired
+        private UserRepository userRepository;
+
+        @Autowired
+        private JobApplicationRepository applicationRepository;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        private User user;
+
+        @BeforeEach
+        void seed() {
+                ApplicationStatus[] statuses = ApplicationStatus.values();
+                for (int u = 0; u < USERS; u++) {
+                        user = userRepository.save(User.builder()
+                                        .name("User " + u)
+                                        .email("plan" + u + "@example.com")
+                                        .password("encoded-password")
+                                        .role(Role.USER)
+                                        .build());
+
+                        List<JobApplication> applications = new ArrayList<>();
+                        for (int i = 0; i < APPLICATIONS_PER_USER; i++) {
+                                applications.add(JobApplication.builder()
+                                                .companyName("Company " + i)
+                                                .position("Engineer")
+                                                .status(statuses[i % statuses.length])
+                                                .applicationDate(LocalDate.now().minusDays(i))
+                                                .user(user)
+                                                .build());
+                        }
+                        applicationRepository.saveAll(applications);
+                }
+                jdbcTemplate.execute("ANALYZE");
+        }
+
+        @Test
+        @DisplayName("Should use the (user, status, date) index for the status filter findByFilters runs")
+        void statusFilter_UsesCompositeIndex() {
+                String sql = captureQuery(() -> applicationRepository.findByFilters(user, ApplicationStatus.INTERVIEW,
+                                null, null, null, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "applicationDate"))));
+
+                String plan = explain(sql, user.getId(), ApplicationStatus.INTERVIEW, ApplicationStatus.INTERVIEW,
+                                null, null, null, null, null, null, 10);
+
+                assertThat(plan).containsIgnoringCase("IDX_APPLICATION_USER_STATUS_DATE");
+        }
+
+        @Test
+        @DisplayName("Should use the (user, date, id) index for the keyset pages findByFiltersBefore runs")
+        void keysetPage_UsesUserDateIndex() {
+                LocalDate afterDate = LocalDate.now().minusDays(10);
+                String sql = captureQuery(() -> applicationRepository.findByFiltersBefore(user, null, null, null, null,
+                                afterDate, 1000L, PageRequest.of(0, 10)));
+
+                String plan = explain(sql, user.getId(), null, null, null, null, null, null, null, null,
+                                afterDate, afterDate, afterDate, afterDate, afterDate, 1000L, 11);
+
+                assertThat(plan).containsIgnoringCase("IDX_APPLICATION_USER_DATE");
+        }
+
+        /**
+         * The first statement Hibernate runs for {@code query}.
+         */
+        private static String captureQuery(Runnable query) {
+                CapturedStatements.STATEMENTS.clear();
+                query.run();
+                return CapturedStatements.STATEMENTS.get(0);
+        }
+
+        /**
+         * Postgres plans a prepared statement with the values bound to it, so the {@code :x IS NULL}
+         * branches of the filter queries fold away. Inlining the values, in the order the statement
+         * uses them, lets H2 do the same.
+         */
+        private String explain(String sql, Object... values) {
+                StringBuilder inlined = new StringBuilder();
+                int next = 0;
+                for (char c : sql.toCharArray()) {
+                        inlined.append(c == '?' ? literal(values[next++]) : String.valueOf(c));
+                }
+                assertThat(next).as("bound values").isEqualTo(values.length);
+                return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + inlined, String.class));
+        }
+
+        private static String literal(Object value) {
+                if (value == null) {
+                        return "NULL";
+                }
+                if (value instanceof Number) {
+                        return value.toString();
+                }
+                return (value instanceof LocalDate ? "DATE '" : "'") + value + "'";
+        }
+
+        public static class CapturedStatements implements StatementInspector {
+
+                static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+                @Override
+                public String inspect(String sql) {
+                        STATEMENTS.add(sql);
+                        return sql;
+                }
+        }
+}
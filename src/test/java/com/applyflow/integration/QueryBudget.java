@@ -0,0 +1,50 @@
+package com.applyflow.integration;
+
+import com.applyflow.monitoring.QueryCountFilter;
+import com.applyflow.monitoring.QueryCounter;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query-count assertions for integration tests, so an endpoint that starts lazy loading per row
+ * fails its test instead of slowing down in production.
+ *
+ * <pre>
+ * mockMvc.perform(get(APPLICATIONS_URL)...).andExpect(QueryBudget.atMost(3));
+ * int statements = QueryBudget.count(() -&gt; scheduler.sendStaleApplicationReminders());
+ * </pre>
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    /**
+     * Fails when the request ran more SQL statements than {@code statements}, authentication
+     * included. Needs {@code application.query-count.headers}, which the test profile turns on.
+     */
+    public static ResultMatcher atMost(int statements) {
+        return result -> {
+            String header = result.getResponse().getHeader(QueryCountFilter.COUNT_HEADER);
+            assertThat(header).as("%s header", QueryCountFilter.COUNT_HEADER).isNotNull();
+            assertThat(Integer.parseInt(header))
+                    .as("SQL statements for %s %s", result.getRequest().getMethod(),
+                            result.getRequest().getRequestURI())
+                    .isLessThanOrEqualTo(statements);
+        };
+    }
+
+    /**
+     * Runs {@code work} on this thread and returns how many SQL statements it executed.
+     */
+    public static int count(Runnable work) {
+        QueryCounter counter = QueryCounter.start();
+        try {
+            work.run();
+        } finally {
+            QueryCounter.stop();
+        }
+        return counter.getStatements();
+    }
+}
@@ -0,0 +1,155 @@
+package com.applyflow.integration;
+
+import com.applyflow.cache.UserCacheGenerations;
+import com.applyflow.datasource.RecentWriters;
+import com.applyflow.dto.JobApplicationRequest;
+import com.applyflow.dto.JobApplicationResponse;
+import com.applyflow.entity.JobApplication;
+import com.applyflow.entity.User;
+import com.applyflow.enums.ApplicationStatus;
+import com.applyflow.repository.JobApplicationRepository;
+import com.applyflow.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Two in-memory H2 databases stand in for the primary and a replica. The test "replicates" by
+ * copying the primary into the replica, then changes rows on the replica only, so a response
+ * shows which database served it.
+ */
+@TestPropertySource(properties = {
+        "application.datasource.replica-urls=" + ReadReplicaRoutingIntegrationTest.REPLICA_URL,
+        "application.datasource.read-your-writes-ms=60000"
+})
+class ReadReplicaRoutingIntegrationTest extends BaseIntegrationTest {
+
+        static final String REPLICA_URL = "jdbc:h2:mem:applyflow-replica;DB_CLOSE_DELAY=-1";
+        private static final String PRIMARY_URL = "jdbc:h2:mem:applyflow-test";
+
+        @Autowired
+        private UserRepository userRepository;
+
+        @Autowired
+        private JobApplicationRepository applicationRepository;
+
+        @Autowired
+        private RecentWriters recentWriters;
+
+        @Autowired
+        private CacheManager cacheManager;
+
+        @Autowired
+        private UserCacheGenerations cacheGenerations;
+
+        private final JdbcTemplate primary = new JdbcTemplate(new DriverManagerDataSource(PRIMARY_URL, "sa", ""));
+        private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+        private String token;
+        private Long firstId;
+        private Long secondId;
+
+        @BeforeEach
+        void setUp() throws Exception {
+                token = registerAndGetToken();
+                // repository reads are read-only transactions, and the replica is still empty here
+                Long userId = primary.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, DEFAULT_EMAIL);
+                User user = userRepository.getReferenceById(userId);
+                firstId = applicationRepository.save(application(user, "Google")).getId();
+                secondId = applicationRepository.save(application(user, "Meta")).getId();
+
+                replica.execute("DROP ALL OBJECTS");
+                primary.queryForList("SCRIPT", String.class).forEach(replica::execute);
+                replica.update("UPDATE job_applications SET company_name = 'Replica ' || company_name");
+        }
+
+        @Test
+        @DisplayName("Should serve read-only requests from the replica")
+        void readOnlyRequests_UseReplica() throws Exception {
+                mockMvc.perform(get(APPLICATIONS_URL + "/" + firstId)
+                                .header("Authorization", authHeader(token)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.companyName").value("Replica Google"));
+                mockMvc.perform(get(APPLICATIONS_URL)
+                                .header("Authorization", authHeader(token)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content[0].companyName").value(startsWith("Replica")));
+        }
+
+        @Test
+        @DisplayName("Should keep a user's reads on the primary after they write")
+        void readYourWrites_AfterUpdate() throws Exception {
+                JobApplicationRequest update = JobApplicationRequest.builder()
+                                .companyName("Google")
+                                .position("Staff Engineer")
+                                .status(ApplicationStatus.INTERVIEW)
+                                .applicationDate(LocalDate.now())
+                                .build();
+                mockMvc.perform(put(APPLICATIONS_URL + "/" + firstId)
+                                .header("Authorization", authHeader(token))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(update)))
+                                .andExpect(status().isOk());
+
+                mockMvc.perform(get(APPLICATIONS_URL + "/" + secondId)
+                                .header("Authorization", authHeader(token)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.companyName").value("Meta"));
+                mockMvc.perform(get(APPLICATIONS_URL + "/" + firstId + "/history")
+                                .header("Authorization", authHeader(token)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$[0].newStatus").value("INTERVIEW"));
+        }
+
+        @Test
+        @DisplayName("Should not cache a lagging replica's rows after the user wrote on another node")
+        void readYourWrites_WriteOnOtherNode() throws Exception {
+                mockMvc.perform(get(APPLICATIONS_URL + "/" + firstId)
+                                .header("Authorization", authHeader(token)))
+                                .andExpect(jsonPath("$.companyName").value("Replica Google"));
+
+                // What another node's write leaves behind here: the row changed on the primary only,
+                // the shared window marker, the evicted entry and the new listing generation
+                Long userId = primary.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, DEFAULT_EMAIL);
+                primary.update("UPDATE job_applications SET company_name = 'Alphabet' WHERE id = ?", firstId);
+                recentWriters.record(userId);
+                cacheManager.getCache("applications").evict(firstId + "_" + userId);
+                cacheGenerations.bump(userId);
+
+                mockMvc.perform(get(APPLICATIONS_URL + "/" + firstId)
+                                .header("Authorization", authHeader(token)))
+                                .andExpect(jsonPath("$.companyName").value("Alphabet"));
+                mockMvc.perform(get(APPLICATIONS_URL + "?sortBy=companyName&sortDir=asc")
+                                .header("Authorization", authHeader(token)))
+                                .andExpect(jsonPath("$.content[0].companyName").value("Alphabet"));
+
+                JobApplicationResponse cached = cacheManager.getCache("applications")
+                                .get(firstId + "_" + userId, JobApplicationResponse.class);
+                assertThat(cached.getCompanyName()).isEqualTo("Alphabet");
+        }
+
+        private JobApplication application(User user, String company) {
+                return JobApplication.builder()
+                                .companyName(company)
+                                .position("Engineer")
+                                .status(ApplicationStatus.APPLIED)
+                                .applicationDate(LocalDate.now())
+                                .user(user)
+                                .build();
+        }
+}
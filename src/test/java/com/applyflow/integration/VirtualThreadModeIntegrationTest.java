@@ -0,0 +1,44 @@
+package com.applyflow.integration;
+
+import com.applyflow.config.AsyncConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadModeIntegrationTest extends BaseIntegrationTest {
+
+        @Autowired
+        @Qualifier("applicationTaskExecutor")
+        private AsyncTaskExecutor applicationTaskExecutor;
+
+        @Autowired
+        @Qualifier(AsyncConfig.EMAIL_EXECUTOR)
+        private AsyncTaskExecutor emailTaskExecutor;
+
+        @Test
+        @DisplayName("Should run default async work on virtual threads and keep email on its pool")
+        void virtualThreadMode() throws Exception {
+                Boolean virtual = applicationTaskExecutor
+                                .submit(() -> Thread.currentThread().isVirtual())
+                                .get(5, TimeUnit.SECONDS);
+
+                assertThat(virtual).isTrue();
+                assertThat(emailTaskExecutor).isInstanceOf(ThreadPoolTaskExecutor.class);
+
+                String token = registerAndGetToken();
+                mockMvc.perform(get(APPLICATIONS_URL)
+                                .header("Authorization", authHeader(token)))
+                                .andExpect(status().isOk());
+        }
+}
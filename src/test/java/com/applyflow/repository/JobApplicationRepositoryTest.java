@@ -0,0 +1,16 @@
+package com.applyflow.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobApplicationRepositoryTest {
+
+    @Test
+    @DisplayName("Should escape LIKE wildcards in the company filter pattern")
+    void containsPattern_EscapesWildcards() {
+        assertThat(JobApplicationRepository.containsPattern(" 100%_Tech! ")).isEqualTo("%100!%!_tech!!%");
+        assertThat(JobApplicationRepository.containsPattern("  ")).isNull();
+    }
+}
@@ -0,0 +1,82 @@
+package com.applyflow.scheduler;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisScheduledJobLockTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port = freePort();
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = connectionFactory(port);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should let only one node run a job until its lease expires")
+    void oneNodePerLease() throws InterruptedException {
+        RedisScheduledJobLock nodeA = new RedisScheduledJobLock(new StringRedisTemplate(connectionFactory));
+        RedisScheduledJobLock nodeB = new RedisScheduledJobLock(new StringRedisTemplate(connectionFactory));
+
+        assertThat(nodeA.tryAcquire("rebuild", Duration.ofMillis(200))).isTrue();
+        assertThat(nodeB.tryAcquire("rebuild", Duration.ofMillis(200))).isFalse();
+        assertThat(nodeA.tryAcquire("rebuild", Duration.ofMillis(200))).isFalse();
+        assertThat(nodeB.tryAcquire("other", Duration.ofMillis(200))).isTrue();
+
+        Thread.sleep(350);
+        assertThat(nodeB.tryAcquire("rebuild", Duration.ofMillis(200))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should run the job when Redis cannot be reached")
+    void failsOpen() throws IOException {
+        LettuceConnectionFactory unreachable = connectionFactory(freePort());
+        try {
+            RedisScheduledJobLock lock = new RedisScheduledJobLock(new StringRedisTemplate(unreachable));
+
+            assertThat(lock.tryAcquire("rebuild", Duration.ofMinutes(1))).isTrue();
+        } finally {
+            unreachable.destroy();
+        }
+    }
+
+    private static LettuceConnectionFactory connectionFactory(int port) {
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        factory.afterPropertiesSet();
+        factory.start();
+        return factory;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.applyflow.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HybridRateLimiterTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+
+    @Mock
+    private RedisSlidingWindowRateLimiter redisLimiter;
+
+    private SimpleMeterRegistry meterRegistry;
+    private HybridRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new HybridRateLimiter(redisLimiter, new LocalWindowRateLimiter(1000),
+                10, Duration.ofSeconds(5), 1000, meterRegistry, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("Should decide requests locally from a leased batch")
+    void servesFromLease() {
+        when(redisLimiter.acquire("key", 100, WINDOW, 10, List.of()))
+                .thenReturn(grant(10, 10, 90));
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(rateLimiter.tryAcquire("key", 100, WINDOW).allowed()).isTrue();
+        }
+
+        verify(redisLimiter, times(1)).acquire(anyString(), anyInt(), any(), anyInt(), anyList());
+        assertThat(decisions("local")).isEqualTo(9);
+        assertThat(decisions("redis")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should lease a new batch once the current one is used up")
+    void renewsExhaustedLease() {
+        when(redisLimiter.acquire("key", 100, WINDOW, 10, List.of()))
+                .thenReturn(grant(10, 10, 90), grant(10, 20, 80));
+
+        for (int i = 0; i < 11; i++) {
+            rateLimiter.tryAcquire("key", 100, WINDOW);
+        }
+
+        verify(redisLimiter, times(2)).acquire("key", 100, WINDOW, 10, List.of());
+    }
+
+    @Test
+    @DisplayName("Should give back the unused permits of an expired lease when renewing")
+    void returnsLeftoversOfExpiredLease() {
+        AtomicLong nanos = new AtomicLong();
+        rateLimiter = new HybridRateLimiter(redisLimiter, new LocalWindowRateLimiter(1000),
+                10, Duration.ofSeconds(1), 1000, meterRegistry, nanos::get, Runnable::run);
+        when(redisLimiter.acquire(eq("key"), eq(100), eq(WINDOW), eq(10), anyList()))
+                .thenReturn(grant(10, 10, 90), grant(10, 3, 97));
+
+        rateLimiter.tryAcquire("key", 100, WINDOW);
+        rateLimiter.tryAcquire("key", 100, WINDOW);
+        nanos.addAndGet(Duration.ofMillis(1500).toNanos());
+        rateLimiter.tryAcquire("key", 100, WINDOW);
+
+        verify(redisLimiter).acquire("key", 100, WINDOW, 10, List.of());
+        verify(redisLimiter).acquire("key", 100, WINDOW, 10,
+                List.of("m:3", "m:4", "m:5", "m:6", "m:7", "m:8", "m:9", "m:10"));
+        verify(redisLimiter, never()).release(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("Should keep a concurrently renewed lease and give back its own batch")
+    void concurrentRenewalKeepsOneLease() {
+        AtomicInteger calls = new AtomicInteger();
+        when(redisLimiter.acquire("key", 100, WINDOW, 10, List.of()))
+                .thenAnswer(invocation -> {
+                    if (calls.incrementAndGet() > 1) {
+                        return new RedisSlidingWindowRateLimiter.Grant(10, "inner",
+                                new RateLimitDecision(true, 20, 80, 60_000));
+                    }
+                    // A second request for the same key renews while this one is still in Redis
+                    rateLimiter.tryAcquire("key", 100, WINDOW);
+                    return new RedisSlidingWindowRateLimiter.Grant(10, "outer",
+                            new RateLimitDecision(true, 10, 90, 60_000));
+                });
+
+        rateLimiter.tryAcquire("key", 100, WINDOW);
+        RateLimitDecision local = rateLimiter.tryAcquire("key", 100, WINDOW);
+
+        verify(redisLimiter).release("key",
+                List.of("outer:2", "outer:3", "outer:4", "outer:5", "outer:6", "outer:7", "outer:8", "outer:9", "outer:10"));
+        assertThat(local.count()).isEqualTo(20);
+        assertThat(local.remaining()).isEqualTo(88);
+    }
+
+    @Test
+    @DisplayName("Should lease one permit at a time for small limits")
+    void smallLimitsLeaseSinglePermits() {
+        when(redisLimiter.acquire("auth", 5, WINDOW, 1, List.of())).thenReturn(grant(1, 1, 4));
+
+        rateLimiter.tryAcquire("auth", 5, WINDOW);
+
+        verify(redisLimiter).acquire("auth", 5, WINDOW, 1, List.of());
+    }
+
+    @Test
+    @DisplayName("Should cache a denial instead of asking Redis on every blocked request")
+    void cachesDenial() {
+        when(redisLimiter.acquire("key", 100, WINDOW, 10, List.of()))
+                .thenReturn(new RedisSlidingWindowRateLimiter.Grant(0, "m",
+                        new RateLimitDecision(false, 100, 0, 30_000)));
+
+        assertThat(rateLimiter.tryAcquire("key", 100, WINDOW).allowed()).isFalse();
+        RateLimitDecision cached = rateLimiter.tryAcquire("key", 100, WINDOW);
+
+        assertThat(cached.allowed()).isFalse();
+        assertThat(cached.resetSeconds()).isBetween(29L, 30L);
+        verify(redisLimiter, times(1)).acquire(anyString(), anyInt(), any(), anyInt(), anyList());
+    }
+
+    @Test
+    @DisplayName("Should fall back to strict local limits when Redis fails")
+    void strictFallbackWhenRedisDown() {
+        when(redisLimiter.acquire(anyString(), anyInt(), any(), anyInt(), anyList()))
+                .thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimiter.tryAcquire("auth", 5, WINDOW).allowed()).isTrue();
+        }
+        RateLimitDecision sixth = rateLimiter.tryAcquire("auth", 5, WINDOW);
+
+        assertThat(sixth.allowed()).isFalse();
+        assertThat(decisions("fallback")).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Should admit only this node's share of the limit when Redis fails")
+    void fallbackSplitsLimitAcrossNodes() {
+        rateLimiter = new HybridRateLimiter(redisLimiter, new LocalWindowRateLimiter(1000, 3),
+                10, Duration.ofSeconds(5), 1000, meterRegistry, Runnable::run);
+        when(redisLimiter.acquire(anyString(), anyInt(), any(), anyInt(), anyList()))
+                .thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+        for (int i = 0; i < 33; i++) {
+            assertThat(rateLimiter.tryAcquire("global", 100, WINDOW).allowed()).isTrue();
+        }
+        assertThat(rateLimiter.tryAcquire("global", 100, WINDOW).allowed()).isFalse();
+        // Small limits still let at least one request through per node
+        assertThat(rateLimiter.tryAcquire("auth", 2, WINDOW).allowed()).isTrue();
+        assertThat(rateLimiter.tryAcquire("auth", 2, WINDOW).allowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should use local limits when no Redis is configured")
+    void localLimitsWithoutRedis() {
+        when(redisLimiter.acquire(anyString(), anyInt(), any(), anyInt(), anyList())).thenReturn(null);
+
+        rateLimiter.tryAcquire("auth", 1, WINDOW);
+
+        assertThat(rateLimiter.tryAcquire("auth", 1, WINDOW).allowed()).isFalse();
+    }
+
+    private RedisSlidingWindowRateLimiter.Grant grant(long granted, long count, long remaining) {
+        return new RedisSlidingWindowRateLimiter.Grant(granted, "m",
+                new RateLimitDecision(true, count, remaining, 60_000));
+    }
+
+    private double decisions(String source) {
+        return meterRegistry.get("applyflow.ratelimit.decisions").tag("source", source).counter().count();
+    }
+}
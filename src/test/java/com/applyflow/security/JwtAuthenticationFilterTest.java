@@ -0,0 +1,134 @@
+package com.applyflow.security;
+
+import com.applyflow.entity.User;
+import com.applyflow.enums.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "dGhpc2lzYXZlcnlsb25nc2VjcmV0a2V5Zm9ydGVzdGluZ3B1cnBvc2VzMTIzNDU2";
+    private static final int REQUESTS = 10;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+    private Object lastPrincipal;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 86400000L);
+        ReflectionTestUtils.setField(jwtService, "verifiedCacheSize", 100L);
+        jwtService.init();
+
+        user = User.builder()
+                .id(1L)
+                .name("John Doe")
+                .email("john@example.com")
+                .password("encoded-password")
+                .role(Role.USER)
+                .tokenVersion(0)
+                .build();
+        token = jwtService.generateToken(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should load the user from the database once per request by default")
+    void defaultMode_OneLookupPerRequest() throws Exception {
+        when(userDetailsService.loadUserByUsername(anyString())).thenReturn(user);
+        JwtAuthenticationFilter filter = filter(false, 0);
+
+        for (int i = 0; i < REQUESTS; i++) {
+            assertThat(authenticate(filter)).isTrue();
+        }
+
+        verify(userDetailsService, times(REQUESTS)).loadUserByUsername("john@example.com");
+    }
+
+    @Test
+    @DisplayName("Should build the principal from claims without any database lookup")
+    void statelessMode_NoLookups() throws Exception {
+        JwtAuthenticationFilter filter = filter(true, 0);
+
+        for (int i = 0; i < REQUESTS; i++) {
+            assertThat(authenticate(filter)).isTrue();
+        }
+
+        verifyNoInteractions(userDetailsService);
+        User principal = (User) lastPrincipal;
+        assertThat(principal.getId()).isEqualTo(1L);
+        assertThat(principal.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("Should serve repeat requests from the principal cache")
+    void principalCache_SingleLookup() throws Exception {
+        when(userDetailsService.loadUserByUsername(anyString())).thenReturn(user);
+        JwtAuthenticationFilter filter = filter(false, 100);
+
+        for (int i = 0; i < REQUESTS; i++) {
+            assertThat(authenticate(filter)).isTrue();
+        }
+
+        verify(userDetailsService, times(1)).loadUserByUsername("john@example.com");
+    }
+
+    @Test
+    @DisplayName("Should reject stateless tokens once the user's tokens are revoked")
+    void statelessMode_RevokedToken() throws Exception {
+        UserPrincipalCache principalCache = new UserPrincipalCache(0, 60, 86400000L);
+        JwtAuthenticationFilter filter = filter(true, principalCache);
+
+        principalCache.revoke(1L, "john@example.com", 1);
+
+        assertThat(authenticate(filter)).isFalse();
+    }
+
+    private boolean authenticate(JwtAuthenticationFilter filter) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/applications");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        filter.doFilterInternal(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        lastPrincipal = authentication != null ? authentication.getPrincipal() : null;
+        return authentication != null;
+    }
+
+    private JwtAuthenticationFilter filter(boolean stateless, long cacheSize) {
+        return filter(stateless, new UserPrincipalCache(cacheSize, 60, 86400000L));
+    }
+
+    private JwtAuthenticationFilter filter(boolean stateless, UserPrincipalCache principalCache) {
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtService, userDetailsService, principalCache);
+        ReflectionTestUtils.setField(filter, "stateless", stateless);
+        return filter;
+    }
+}
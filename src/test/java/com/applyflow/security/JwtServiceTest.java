@@ -1,6 +1,8 @@
 package com.applyflow.security;
 
+import com.applyflow.enums.Role;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -29,7 +31,9 @@ class JwtServiceTest {
         jwtService = new JwtService();
         ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
         ReflectionTestUtils.setField(jwtService, "jwtExpiration", 86400000L);
+        ReflectionTestUtils.setField(jwtService, "verifiedCacheSize", 100L);
         ReflectionTestUtils.setField(jwtService, "refreshExpiration", 604800000L);
+        jwtService.init();
 
         userDetails = new User("test@example.com", "password", Collections.emptyList());
     }
@@ -71,6 +75,67 @@ class JwtServiceTest {
                 .isInstanceOf(ExpiredJwtException.class);
     }
 
+    @Test
+    @DisplayName("Should embed user id, role and token version as claims")
+    void extractPrincipal_FromClaims() {
+        com.applyflow.entity.User user = com.applyflow.entity.User.builder()
+                .id(7L)
+                .email("test@example.com")
+                .role(Role.ADMIN)
+                .tokenVersion(3)
+                .build();
+        String token = jwtService.generateToken(user);
+
+        com.applyflow.entity.User principal = jwtService.extractPrincipal(token);
+
+        assertThat(principal.getId()).isEqualTo(7L);
+        assertThat(principal.getUsername()).isEqualTo("test@example.com");
+        assertThat(principal.getRole()).isEqualTo(Role.ADMIN);
+        assertThat(principal.getTokenVersion()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should reject token issued before the user's token version was bumped")
+    void isTokenValid_StaleTokenVersion() {
+        com.applyflow.entity.User user = com.applyflow.entity.User.builder()
+                .id(7L)
+                .email("test@example.com")
+                .role(Role.USER)
+                .tokenVersion(0)
+                .build();
+        String token = jwtService.generateToken(user);
+        user.setTokenVersion(1);
+
+        assertThat(jwtService.isTokenValid(token, user)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should return no principal for tokens without identity claims")
+    void extractPrincipal_LegacyToken() {
+        String token = jwtService.generateToken(userDetails);
+
+        assertThat(jwtService.extractPrincipal(token)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should verify a token once and serve repeat parses from the cache")
+    void parseToken_CachesVerifiedClaims() {
+        String token = jwtService.generateToken(userDetails);
+
+        assertThat(jwtService.parseToken(token)).isSameAs(jwtService.parseToken(token));
+    }
+
+    @Test
+    @DisplayName("Should reject a tampered token even when the original is cached")
+    void parseToken_TamperedTokenNotServedFromCache() {
+        String token = jwtService.generateToken(userDetails);
+        jwtService.parseToken(token);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> jwtService.parseToken(tampered))
+                .isInstanceOf(JwtException.class);
+    }
+
     @Test
     @DisplayName("Should extract username from token")
     void extractUsername_Success() {
@@ -6,14 +6,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockFilterChain;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -23,16 +21,13 @@ import static org.mockito.Mockito.*;
 class RateLimitFilterTest {
 
     @Mock
-    private StringRedisTemplate redisTemplate;
-
-    @Mock
-    private ValueOperations<String, String> valueOperations;
+    private RateLimiter rateLimiter;
 
     private RateLimitFilter rateLimitFilter;
 
     @BeforeEach
     void setUp() {
-        rateLimitFilter = new RateLimitFilter(redisTemplate);
+        rateLimitFilter = new RateLimitFilter(rateLimiter);
         ReflectionTestUtils.setField(rateLimitFilter, "requestsPerMinute", 100);
         ReflectionTestUtils.setField(rateLimitFilter, "authRequestsPerMinute", 5);
     }
@@ -44,15 +39,16 @@ class RateLimitFilterTest {
         MockHttpServletResponse response = new MockHttpServletResponse();
         MockFilterChain filterChain = new MockFilterChain();
 
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.increment(anyString())).thenReturn(1L);
+        when(rateLimiter.tryAcquire(anyString(), eq(100), eq(Duration.ofMinutes(1))))
+                .thenReturn(new RateLimitDecision(true, 1, 99, 60_000));
 
         rateLimitFilter.doFilterInternal(request, response, filterChain);
 
         assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(filterChain.getRequest()).isNotNull();
         assertThat(response.getHeader("X-RateLimit-Limit")).isEqualTo("100");
         assertThat(response.getHeader("X-RateLimit-Remaining")).isEqualTo("99");
-        verify(redisTemplate).expire(anyString(), eq(60L), eq(TimeUnit.SECONDS));
+        assertThat(response.getHeader("X-RateLimit-Reset")).isEqualTo("60");
     }
 
     @Test
@@ -62,13 +58,13 @@ class RateLimitFilterTest {
         MockHttpServletResponse response = new MockHttpServletResponse();
         MockFilterChain filterChain = new MockFilterChain();
 
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.increment(anyString())).thenReturn(101L);
-        when(redisTemplate.getExpire(anyString(), eq(TimeUnit.SECONDS))).thenReturn(45L);
+        when(rateLimiter.tryAcquire(anyString(), eq(100), any()))
+                .thenReturn(new RateLimitDecision(false, 100, 0, 44_200));
 
         rateLimitFilter.doFilterInternal(request, response, filterChain);
 
         assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(filterChain.getRequest()).isNull();
         assertThat(response.getHeader("Retry-After")).isEqualTo("45");
         assertThat(response.getContentAsString()).contains("Too Many Requests");
     }
@@ -80,9 +76,8 @@ class RateLimitFilterTest {
         MockHttpServletResponse response = new MockHttpServletResponse();
         MockFilterChain filterChain = new MockFilterChain();
 
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.increment(anyString())).thenReturn(6L);
-        when(redisTemplate.getExpire(anyString(), eq(TimeUnit.SECONDS))).thenReturn(30L);
+        when(rateLimiter.tryAcquire(endsWith(":auth"), eq(5), any()))
+                .thenReturn(new RateLimitDecision(false, 5, 0, 30_000));
 
         rateLimitFilter.doFilterInternal(request, response, filterChain);
 
@@ -97,11 +92,28 @@ class RateLimitFilterTest {
         MockHttpServletResponse response = new MockHttpServletResponse();
         MockFilterChain filterChain = new MockFilterChain();
 
-        when(redisTemplate.opsForValue()).thenThrow(new RuntimeException("Redis connection refused"));
+        when(rateLimiter.tryAcquire(anyString(), anyInt(), any()))
+                .thenThrow(new RuntimeException("Redis connection refused"));
+
+        rateLimitFilter.doFilterInternal(request, response, filterChain);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(filterChain.getRequest()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should fail-open when no Redis is configured")
+    void failOpenWithoutRedis() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        when(rateLimiter.tryAcquire(anyString(), anyInt(), any())).thenReturn(null);
 
         rateLimitFilter.doFilterInternal(request, response, filterChain);
 
         assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("X-RateLimit-Limit")).isNull();
     }
 
     @Test
@@ -112,12 +124,12 @@ class RateLimitFilterTest {
         MockHttpServletResponse response = new MockHttpServletResponse();
         MockFilterChain filterChain = new MockFilterChain();
 
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.increment(contains("203.0.113.50"))).thenReturn(1L);
+        when(rateLimiter.tryAcquire(contains("203.0.113.50"), anyInt(), any()))
+                .thenReturn(new RateLimitDecision(true, 1, 99, 60_000));
 
         rateLimitFilter.doFilterInternal(request, response, filterChain);
 
         assertThat(response.getStatus()).isEqualTo(200);
-        verify(valueOperations).increment(contains("203.0.113.50"));
+        verify(rateLimiter).tryAcquire(contains("203.0.113.50"), anyInt(), any());
     }
 }
@@ -0,0 +1,199 @@
+package com.applyflow.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the Lua script against a real (embedded) Redis server.
+ */
+class RedisSlidingWindowRateLimiterTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisSlidingWindowRateLimiter rateLimiter;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getRequiredConnectionFactory().getConnection().serverCommands().flushAll();
+        rateLimiter = new RedisSlidingWindowRateLimiter(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("Should count, then reject once the limit is reached")
+    void rejectsAfterLimit() {
+        for (int i = 1; i <= 3; i++) {
+            RateLimitDecision decision = rateLimiter.tryAcquire("rl:test", 3, Duration.ofMinutes(1));
+            assertThat(decision.allowed()).isTrue();
+            assertThat(decision.count()).isEqualTo(i);
+            assertThat(decision.remaining()).isEqualTo(3 - i);
+        }
+
+        RateLimitDecision rejected = rateLimiter.tryAcquire("rl:test", 3, Duration.ofMinutes(1));
+
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.count()).isEqualTo(3);
+        assertThat(rejected.remaining()).isZero();
+        assertThat(rejected.resetMillis()).isBetween(1L, 60_000L);
+    }
+
+    @Test
+    @DisplayName("Should always leave an expiry on the window key")
+    void setsExpiry() {
+        rateLimiter.tryAcquire("rl:ttl", 5, Duration.ofSeconds(30));
+
+        Long ttl = redisTemplate.getExpire("rl:ttl");
+        assertThat(ttl).isBetween(1L, 30L);
+    }
+
+    @Test
+    @DisplayName("Should admit requests again as old ones slide out of the window")
+    void slidesWindow() throws InterruptedException {
+        Duration window = Duration.ofMillis(300);
+        assertThat(rateLimiter.tryAcquire("rl:slide", 2, window).allowed()).isTrue();
+        assertThat(rateLimiter.tryAcquire("rl:slide", 2, window).allowed()).isTrue();
+        assertThat(rateLimiter.tryAcquire("rl:slide", 2, window).allowed()).isFalse();
+
+        Thread.sleep(350);
+
+        RateLimitDecision decision = rateLimiter.tryAcquire("rl:slide", 2, window);
+        assertThat(decision.allowed()).isTrue();
+        assertThat(decision.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep separate windows per key")
+    void separateKeys() {
+        assertThat(rateLimiter.tryAcquire("rl:a", 1, Duration.ofMinutes(1)).allowed()).isTrue();
+        assertThat(rateLimiter.tryAcquire("rl:a", 1, Duration.ofMinutes(1)).allowed()).isFalse();
+        assertThat(rateLimiter.tryAcquire("rl:b", 1, Duration.ofMinutes(1)).allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should grant only the permits left in the window")
+    void grantsPartialBatch() {
+        rateLimiter.tryAcquire("rl:batch", 10, Duration.ofMinutes(1));
+
+        RedisSlidingWindowRateLimiter.Grant first = rateLimiter.acquire("rl:batch", 10, Duration.ofMinutes(1), 6, List.of());
+        RedisSlidingWindowRateLimiter.Grant second = rateLimiter.acquire("rl:batch", 10, Duration.ofMinutes(1), 6, List.of());
+
+        assertThat(first.granted()).isEqualTo(6);
+        assertThat(second.granted()).isEqualTo(3);
+        assertThat(second.decision().remaining()).isZero();
+        assertThat(redisTemplate.opsForZSet().zCard("rl:batch")).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should give back the released entries of an earlier grant before counting")
+    void releasesBeforeCounting() {
+        RedisSlidingWindowRateLimiter.Grant first = rateLimiter.acquire("rl:release", 10, Duration.ofMinutes(1), 10, List.of());
+
+        RedisSlidingWindowRateLimiter.Grant second = rateLimiter.acquire("rl:release", 10, Duration.ofMinutes(1), 4,
+                first.members(7, 10));
+
+        assertThat(second.granted()).isEqualTo(4);
+        assertThat(second.decision().count()).isEqualTo(10);
+        assertThat(redisTemplate.opsForZSet().zCard("rl:release")).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should never admit more than the global limit across hybrid nodes")
+    void hybridNodesShareGlobalLimit() {
+        HybridRateLimiter nodeA = new HybridRateLimiter(rateLimiter, new LocalWindowRateLimiter(100),
+                5, Duration.ofSeconds(10), 100, new SimpleMeterRegistry(), Runnable::run);
+        HybridRateLimiter nodeB = new HybridRateLimiter(rateLimiter, new LocalWindowRateLimiter(100),
+                5, Duration.ofSeconds(10), 100, new SimpleMeterRegistry(), Runnable::run);
+
+        int admitted = 0;
+        for (int i = 0; i < 50; i++) {
+            HybridRateLimiter node = i % 2 == 0 ? nodeA : nodeB;
+            if (node.tryAcquire("rl:global", 50, Duration.ofMinutes(1)).allowed()) {
+                admitted++;
+            }
+            if (nodeB.tryAcquire("rl:global", 50, Duration.ofMinutes(1)).allowed()) {
+                admitted++;
+            }
+        }
+
+        assertThat(admitted).isEqualTo(50);
+        assertThat(redisTemplate.opsForZSet().zCard("rl:global")).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("Should give a client slower than the lease TTL its full quota")
+    void slowClientGetsFullQuota() {
+        AtomicLong nanos = new AtomicLong();
+        HybridRateLimiter node = new HybridRateLimiter(rateLimiter, new LocalWindowRateLimiter(100),
+                10, Duration.ofSeconds(1), 100, new SimpleMeterRegistry(), nanos::get, Runnable::run);
+
+        int admitted = 0;
+        for (int i = 0; i < 110; i++) {
+            if (node.tryAcquire("rl:slow", 100, Duration.ofMinutes(1)).allowed()) {
+                admitted++;
+            }
+            // One request every 1.5s on the node's clock; the Redis window itself does not move
+            nanos.addAndGet(Duration.ofMillis(1500).toNanos());
+        }
+
+        assertThat(admitted).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Should give back the permits of a lease that is never renewed")
+    void idleLeaseReturnsPermits() {
+        AtomicLong nanos = new AtomicLong();
+        HybridRateLimiter node = new HybridRateLimiter(rateLimiter, new LocalWindowRateLimiter(100),
+                10, Duration.ofSeconds(1), 100, new SimpleMeterRegistry(), nanos::get, Runnable::run);
+
+        node.tryAcquire("rl:idle", 100, Duration.ofMinutes(1));
+        assertThat(redisTemplate.opsForZSet().zCard("rl:idle")).isEqualTo(10);
+
+        nanos.addAndGet(Duration.ofSeconds(3).toNanos());
+        node.tryAcquire("rl:other", 100, Duration.ofMinutes(1));
+        node.tryAcquire("rl:other", 100, Duration.ofMinutes(1));
+
+        assertThat(redisTemplate.opsForZSet().zCard("rl:idle")).isEqualTo(1);
+    }
+}
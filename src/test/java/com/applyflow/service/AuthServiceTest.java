@@ -13,6 +13,7 @@ import com.applyflow.exception.ResourceNotFoundException;
 import com.applyflow.repository.RefreshTokenRepository;
 import com.applyflow.repository.UserRepository;
 import com.applyflow.security.JwtService;
+import com.applyflow.security.UserPrincipalCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -58,6 +59,12 @@ class AuthServiceTest {
     @Mock
     private AuditEventPublisher auditEventPublisher;
 
+    @Mock
+    private UserPrincipalCache principalCache;
+
+    @Mock
+    private ApplicationStatsService statsService;
+
     @InjectMocks
     private AuthService authService;
 
@@ -237,8 +244,12 @@ class AuthServiceTest {
     @Test
     @DisplayName("Should revoke all tokens on logout")
     void logout_Success() {
+        when(userRepository.findTokenVersionById(1L)).thenReturn(1);
+
         authService.logout(user);
 
         verify(refreshTokenRepository).revokeAllByUser(user);
+        verify(userRepository).incrementTokenVersion(1L);
+        verify(principalCache).revoke(1L, "john@example.com", 1);
     }
 }
@@ -0,0 +1,54 @@
+package com.applyflow.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvRecordReaderTest {
+
+    @Test
+    @DisplayName("Should split quoted fields with commas, escaped quotes and line breaks")
+    void quotedFields() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(
+                new StringReader("a,\"b, \"\"c\"\"\",\"d\r\ne\"\r\nf,,g\n"), 100);
+
+        assertThat(reader.next()).containsExactly("a", "b, \"c\"", "d\r\ne");
+        assertThat(reader.recordLine()).isEqualTo(1);
+        assertThat(reader.next()).containsExactly("f", "", "g");
+        assertThat(reader.recordLine()).isEqualTo(3);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should read a last record without a trailing line break")
+    void lastRecordWithoutNewline() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("a,b\rc,d"), 100);
+
+        assertThat(reader.next()).isEqualTo(List.of("a", "b"));
+        assertThat(reader.next()).isEqualTo(List.of("c", "d"));
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should stop at an unterminated quote or an oversized record")
+    void malformedRecords() throws IOException {
+        CsvRecordReader unterminated = new CsvRecordReader(new StringReader("a\n\"b,c\nd\n"), 100);
+        unterminated.next();
+        assertThatThrownBy(unterminated::next)
+                .isInstanceOf(CsvRecordReader.MalformedRecordException.class)
+                .hasMessage("Unterminated quoted field")
+                .extracting(e -> ((CsvRecordReader.MalformedRecordException) e).getLine())
+                .isEqualTo(2L);
+
+        CsvRecordReader oversized = new CsvRecordReader(new StringReader("abcdefghij,k\n"), 8);
+        assertThatThrownBy(oversized::next)
+                .isInstanceOf(CsvRecordReader.MalformedRecordException.class)
+                .hasMessage("Record exceeds 8 characters");
+    }
+}
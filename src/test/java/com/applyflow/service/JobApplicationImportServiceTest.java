@@ -0,0 +1,141 @@
+package com.applyflow.service;
+
+import com.applyflow.cache.UserCacheGenerations;
+import com.applyflow.dto.ImportResult;
+import com.applyflow.entity.User;
+import com.applyflow.enums.AuditEventType;
+import com.applyflow.enums.ExportFormat;
+import com.applyflow.event.AuditEventPublisher;
+import com.applyflow.mapper.JobApplicationMapper;
+import com.applyflow.repository.JobApplicationRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JobApplicationImportServiceTest {
+
+    private static final String ROW =
+            "{\"companyName\":\"Google\",\"position\":\"Engineer\",\"applicationDate\":\"2024-03-01\"}\n";
+
+    @Mock
+    private JobApplicationRepository applicationRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private AuditEventPublisher auditEventPublisher;
+
+    @Mock
+    private UserCacheGenerations cacheGenerations;
+
+    @Mock
+    private ApplicationStatsService statsService;
+
+    private ValidatorFactory validatorFactory;
+    private JobApplicationImportService importService;
+    private final User user = User.builder().id(1L).email("test@example.com").build();
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        importService = new JobApplicationImportService(applicationRepository, new JobApplicationMapper(),
+                new ObjectMapper().registerModule(new JavaTimeModule()), validatorFactory.getValidator(),
+                new TransactionTemplate(transactionManager), entityManager, auditEventPublisher,
+                cacheGenerations, statsService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("Should report a JSON null row as a failed row instead of failing the import")
+    void nullRowIsRejected() throws IOException {
+        String body = ROW + "null\n" + ROW;
+
+        ImportResult result = importService.importApplications(user, ExportFormat.NDJSON, stream(body));
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getLine()).isEqualTo(2);
+            assertThat(error.getMessages()).containsExactly("Row must be a JSON object");
+        });
+    }
+
+    @Test
+    @DisplayName("Should bump the cache generation and audit committed chunks when the stream breaks")
+    void committedChunksSurviveBrokenStream() {
+        InputStream body = new SequenceInputStream(
+                stream(ROW.repeat(JobApplicationImportService.CHUNK_SIZE + 1)),
+                new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new IOException("Connection reset");
+                    }
+                });
+
+        assertThatThrownBy(() -> importService.importApplications(user, ExportFormat.NDJSON, body))
+                .isInstanceOf(IOException.class);
+
+        verify(applicationRepository, times(1)).saveAll(anyList());
+        verify(cacheGenerations).bump(1L);
+        verify(auditEventPublisher).publish(eq(AuditEventType.JOB_IMPORTED), eq(1L), isNull(),
+                contains("imported=" + JobApplicationImportService.CHUNK_SIZE));
+    }
+
+    @Test
+    @DisplayName("Should neither bump nor audit when the stream breaks before anything was written")
+    void nothingCommittedNothingReported() {
+        InputStream body = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Connection reset");
+            }
+        };
+
+        assertThatThrownBy(() -> importService.importApplications(user, ExportFormat.NDJSON, body))
+                .isInstanceOf(IOException.class);
+
+        verify(cacheGenerations, never()).bump(1L);
+        verify(auditEventPublisher, never()).publish(eq(AuditEventType.JOB_IMPORTED), eq(1L), isNull(),
+                contains("imported"));
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
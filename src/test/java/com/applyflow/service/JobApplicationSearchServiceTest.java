@@ -0,0 +1,76 @@
+package com.applyflow.service;
+
+import com.applyflow.dto.JobApplicationResponse;
+import com.applyflow.dto.PagedResponse;
+import com.applyflow.dto.SearchCursor;
+import com.applyflow.entity.User;
+import com.applyflow.enums.ApplicationStatus;
+import com.applyflow.exception.BadRequestException;
+import com.applyflow.mapper.JobApplicationMapper;
+import com.applyflow.repository.ApplicationListRow;
+import com.applyflow.repository.JobApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JobApplicationSearchServiceTest {
+
+    @Mock
+    private JobApplicationRepository applicationRepository;
+
+    private final JobApplicationMapper mapper = new JobApplicationMapper();
+    private final User user = User.builder().id(1L).email("john@example.com").build();
+    private JobApplicationSearchService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new JobApplicationSearchService(applicationRepository, mapper, true);
+    }
+
+    @Test
+    @DisplayName("Should return full-text hits in rank order and resume after the last one")
+    void fullText_RankOrderAndCursor() {
+        when(applicationRepository.searchRanked(1L, "kafka", 3)).thenReturn(List.of(
+                new Object[]{7L, 0.9f}, new Object[]{3L, 0.5f}, new Object[]{5L, 0.5f}));
+        when(applicationRepository.findListRows(eq(user), any())).thenReturn(List.of(row(3L), row(7L)));
+
+        PagedResponse<JobApplicationResponse> result = service.search(user, "kafka", null, 2);
+
+        assertThat(result.getContent()).extracting(JobApplicationResponse::getId).containsExactly(7L, 3L);
+        assertThat(result.isLast()).isFalse();
+        assertThat(SearchCursor.decode(result.getNextCursor())).isEqualTo(new SearchCursor(0.5f, 3L));
+        verify(applicationRepository).findListRows(user, List.of(7L, 3L));
+
+        service.search(user, "kafka", result.getNextCursor(), 2);
+        verify(applicationRepository).searchRankedAfter(1L, "kafka", 0.5f, 3L, 3);
+    }
+
+    @Test
+    @DisplayName("Should reject blank and overlong queries")
+    void search_InvalidQuery() {
+        assertThatThrownBy(() -> service.search(user, "  ", null, 10))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> service.search(user, "x".repeat(201), null, 10))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private static ApplicationListRow row(long id) {
+        return new ApplicationListRow(id, "Company " + id, "Engineer", ApplicationStatus.APPLIED,
+                LocalDate.now(), null, null, LocalDateTime.now(), LocalDateTime.now());
+    }
+}
@@ -1,8 +1,13 @@
 package com.applyflow.service;
 
+import com.applyflow.cache.UserCacheGenerations;
+import com.applyflow.dto.ApplicationCursor;
+import com.applyflow.dto.BulkStatusUpdateRequest;
+import com.applyflow.dto.BulkStatusUpdateResponse;
 import com.applyflow.dto.JobApplicationRequest;
 import com.applyflow.dto.JobApplicationResponse;
 import com.applyflow.dto.PagedResponse;
+import com.applyflow.dto.StatusHistoryResponse;
 import com.applyflow.entity.JobApplication;
 import com.applyflow.entity.StatusHistory;
 import com.applyflow.entity.User;
@@ -10,8 +15,11 @@ import com.applyflow.enums.ApplicationStatus;
 import com.applyflow.enums.Role;
 import com.applyflow.exception.ResourceNotFoundException;
 import com.applyflow.mapper.JobApplicationMapper;
+import com.applyflow.repository.ApplicationListRow;
+import com.applyflow.repository.ApplicationStatusSnapshot;
 import com.applyflow.repository.JobApplicationRepository;
 import com.applyflow.repository.StatusHistoryRepository;
+import com.applyflow.repository.StatusHistoryRow;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,15 +27,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -54,6 +69,21 @@ class JobApplicationServiceTest {
         @Mock
         private com.applyflow.event.AuditEventPublisher auditEventPublisher;
 
+        @Mock
+        private UserCacheGenerations cacheGenerations;
+
+        @Mock
+        private CacheManager cacheManager;
+
+        @Mock
+        private Cache applicationsCache;
+
+        @Mock
+        private ApplicationStatsService statsService;
+
+        @Mock
+        private ApplicationEventPublisher eventPublisher;
+
         @InjectMocks
         private JobApplicationService service;
 
@@ -61,6 +91,7 @@ class JobApplicationServiceTest {
         private JobApplication application;
         private JobApplicationRequest request;
         private JobApplicationResponse response;
+        private ApplicationListRow listRow;
 
         @BeforeEach
         void setUp() {
@@ -83,6 +114,10 @@ class JobApplicationServiceTest {
                                 .updatedAt(LocalDateTime.now())
                                 .build();
 
+                listRow = new ApplicationListRow(1L, "Google", "Backend Developer", ApplicationStatus.APPLIED,
+                                LocalDate.now(), new BigDecimal("100000"), null,
+                                application.getCreatedAt(), application.getUpdatedAt());
+
                 request = JobApplicationRequest.builder()
                                 .companyName("Google")
                                 .position("Backend Developer")
@@ -112,17 +147,19 @@ class JobApplicationServiceTest {
                 assertThat(result).isNotNull();
                 assertThat(result.getCompanyName()).isEqualTo("Google");
                 verify(applicationRepository).save(any());
+                verify(statsService).adjust(user.getId(), ApplicationStatus.APPLIED, 1);
+                verify(cacheGenerations).bump(user.getId());
         }
 
         @Test
         @DisplayName("Should return paginated applications")
         void getAll_Success() {
                 Pageable pageable = PageRequest.of(0, 10);
-                Page<JobApplication> page = new PageImpl<>(List.of(application), pageable, 1);
+                Page<ApplicationListRow> page = new PageImpl<>(List.of(listRow), pageable, 1);
 
                 when(applicationRepository.findByFilters(eq(user), any(), any(), any(), any(), eq(pageable)))
                                 .thenReturn(page);
-                when(mapper.toResponse(any())).thenReturn(response);
+                when(mapper.toListResponse(listRow)).thenReturn(response);
 
                 PagedResponse<JobApplicationResponse> result = service.getAll(
                                 user, null, null, null, null, pageable);
@@ -132,6 +169,25 @@ class JobApplicationServiceTest {
                 assertThat(result.isLast()).isTrue();
         }
 
+        @Test
+        @DisplayName("Should resume a keyset page after the cursor without counting")
+        void getAllAfter_WithCursor() {
+                ApplicationCursor cursor = new ApplicationCursor(LocalDate.of(2025, 1, 10), 42L);
+                when(applicationRepository.findByFiltersBefore(eq(user), any(), any(), any(), any(),
+                                eq(LocalDate.of(2025, 1, 10)), eq(42L), any()))
+                                .thenReturn(new SliceImpl<>(List.of(listRow), PageRequest.of(0, 1), true));
+                when(mapper.toListResponse(listRow)).thenReturn(response);
+
+                PagedResponse<JobApplicationResponse> result = service.getAllAfter(
+                                user, null, null, null, null, cursor.encode(), 1, false);
+
+                assertThat(result.getContent()).hasSize(1);
+                assertThat(result.isLast()).isFalse();
+                assertThat(ApplicationCursor.decode(result.getNextCursor()))
+                                .isEqualTo(new ApplicationCursor(listRow.applicationDate(), 1L));
+                verify(applicationRepository, never()).findByFilters(any(), any(), any(), any(), any(), any());
+        }
+
         @Test
         @DisplayName("Should get application by ID for authorized user")
         void getById_Success() {
@@ -180,6 +236,89 @@ class JobApplicationServiceTest {
                                 eq("APPLIED"), eq("INTERVIEW"));
         }
 
+        @Test
+        @DisplayName("Should move many applications with one update, one history batch and one email")
+        void updateStatuses_SetBased() {
+                BulkStatusUpdateRequest bulkRequest = BulkStatusUpdateRequest.builder()
+                                .ids(List.of(1L, 2L, 3L, 2L, 99L))
+                                .status(ApplicationStatus.REJECTED)
+                                .build();
+                when(applicationRepository.lockStatuses(eq(user), any())).thenReturn(List.of(
+                                new ApplicationStatusSnapshot(1L, "Google", ApplicationStatus.APPLIED),
+                                new ApplicationStatusSnapshot(2L, "Meta", ApplicationStatus.INTERVIEW),
+                                new ApplicationStatusSnapshot(3L, "Stripe", ApplicationStatus.REJECTED)));
+                when(cacheManager.getCache("applications")).thenReturn(applicationsCache);
+
+                BulkStatusUpdateResponse result = service.updateStatuses(bulkRequest, user);
+
+                assertThat(result.getUpdated()).containsExactly(1L, 2L);
+                assertThat(result.getUnchanged()).containsExactly(3L);
+                assertThat(result.getNotFound()).containsExactly(99L);
+                verify(applicationRepository).updateStatuses(eq(user), eq(List.of(1L, 2L)),
+                                eq(ApplicationStatus.REJECTED), any());
+                verify(applicationRepository, never()).save(any());
+                verify(statusHistoryRepository).saveAll(argThat(rows -> ((List<?>) rows).size() == 2));
+                verify(emailService).sendStatusChangeDigest(user.getEmail(), "REJECTED",
+                                List.of("Google: APPLIED -> REJECTED", "Meta: INTERVIEW -> REJECTED"));
+                verify(statsService).adjust(user.getId(), Map.of(
+                                ApplicationStatus.APPLIED, -1L,
+                                ApplicationStatus.INTERVIEW, -1L,
+                                ApplicationStatus.REJECTED, 2L));
+                verify(applicationsCache).evict("1_1");
+                verify(applicationsCache).evict("2_1");
+                verify(cacheGenerations).bump(user.getId());
+                verify(auditEventPublisher).publish(eq(com.applyflow.enums.AuditEventType.JOB_STATUS_CHANGED),
+                                eq(user.getId()), isNull(), anyString());
+        }
+
+        @Test
+        @DisplayName("Should evict bulk-updated applications only after the transaction commits")
+        void updateStatuses_EvictsAfterCommit() {
+                BulkStatusUpdateRequest bulkRequest = BulkStatusUpdateRequest.builder()
+                                .ids(List.of(1L))
+                                .status(ApplicationStatus.REJECTED)
+                                .build();
+                when(applicationRepository.lockStatuses(eq(user), any())).thenReturn(List.of(
+                                new ApplicationStatusSnapshot(1L, "Google", ApplicationStatus.APPLIED)));
+                when(cacheManager.getCache("applications")).thenReturn(applicationsCache);
+
+                TransactionSynchronizationManager.initSynchronization();
+                try {
+                        service.updateStatuses(bulkRequest, user);
+                        verify(applicationsCache, never()).evict(any());
+
+                        TransactionSynchronizationManager.getSynchronizations()
+                                        .forEach(TransactionSynchronization::afterCommit);
+                } finally {
+                        TransactionSynchronizationManager.clearSynchronization();
+                }
+
+                verify(applicationsCache).evict("1_1");
+        }
+
+        @Test
+        @DisplayName("Should read status history with one query that also checks ownership")
+        void getStatusHistory_SingleQuery() {
+                StatusHistoryRow row = new StatusHistoryRow(1L, 7L, ApplicationStatus.APPLIED,
+                                ApplicationStatus.INTERVIEW, LocalDateTime.now());
+                StatusHistoryResponse historyResponse = StatusHistoryResponse.builder().id(7L).build();
+                when(statusHistoryRepository.findTimelines(any(), eq(user))).thenReturn(List.of(row));
+                when(mapper.toStatusHistoryResponse(row)).thenReturn(historyResponse);
+
+                assertThat(service.getStatusHistory(1L, user)).containsExactly(historyResponse);
+                verify(applicationRepository, never()).findByIdAndUser(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should throw ResourceNotFoundException for history of an application the user does not own")
+        void getStatusHistory_NotFound() {
+                when(statusHistoryRepository.findTimelines(any(), eq(user))).thenReturn(List.of());
+
+                assertThatThrownBy(() -> service.getStatusHistory(99L, user))
+                                .isInstanceOf(ResourceNotFoundException.class)
+                                .hasMessageContaining("99");
+        }
+
         @Test
         @DisplayName("Should delete application for authorized user")
         void delete_Success() {
@@ -188,6 +327,7 @@ class JobApplicationServiceTest {
                 service.delete(1L, user);
 
                 verify(applicationRepository).delete(application);
+                verify(cacheGenerations).bump(user.getId());
         }
 
         @Test
@@ -0,0 +1,143 @@
+package com.applyflow.suggest;
+
+import com.applyflow.cache.UserCacheGenerations;
+import com.applyflow.enums.SuggestField;
+import com.applyflow.event.JobApplicationChangedEvent;
+import com.applyflow.repository.ApplicationNames;
+import com.applyflow.repository.JobApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ApplicationSuggestionIndexTest {
+
+    private static final Long USER_ID = 1L;
+
+    private final JobApplicationRepository repository = mock(JobApplicationRepository.class);
+    private UserCacheGenerations generations;
+    private ApplicationSuggestionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        generations = new UserCacheGenerations(new ConcurrentMapCacheManager());
+        index = new ApplicationSuggestionIndex(repository, generations, 100, 30, 60);
+    }
+
+    @Test
+    @DisplayName("Should apply a change in place and keep serving from memory")
+    void appliesChangeInPlace() {
+        when(repository.findNamesByUserId(USER_ID)).thenReturn(List.of(names(1L, "Google")));
+        assertThat(suggest("go")).containsExactly("Google");
+
+        UserCacheGenerations.Change change = generations.bump(USER_ID);
+        index.onApplicationChanged(event(change, List.of(names(2L, "GoCardless")), List.of()));
+
+        assertThat(suggest("go")).containsExactly("GoCardless", "Google");
+        verify(repository, times(1)).findNamesByUserId(USER_ID);
+    }
+
+    @Test
+    @DisplayName("Should not count a change twice when a load after the commit already saw it")
+    void loadRacingCommit() {
+        UserCacheGenerations.Change create;
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            create = generations.bump(USER_ID);
+            // The write has committed but its generation bump has not run yet when the index loads
+            when(repository.findNamesByUserId(USER_ID)).thenReturn(List.of(names(5L, "Google")));
+            assertThat(suggest("go")).containsExactly("Google");
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        index.onApplicationChanged(event(create, List.of(names(5L, "Google")), List.of()));
+        UserCacheGenerations.Change delete = generations.bump(USER_ID);
+        index.onApplicationChanged(event(delete, List.of(), List.of(5L)));
+
+        assertThat(suggest("go")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reload when another write moved the generation past the applied change")
+    void reloadsAfterConcurrentWrite() {
+        when(repository.findNamesByUserId(USER_ID)).thenReturn(List.of(names(1L, "Google")));
+        suggest("go");
+
+        UserCacheGenerations.Change local = generations.bump(USER_ID);
+        generations.bump(USER_ID); // a write on another node, whose event never reaches this one
+        when(repository.findNamesByUserId(USER_ID))
+                .thenReturn(List.of(names(1L, "Google"), names(2L, "GoCardless"), names(3L, "Gorgias")));
+        index.onApplicationChanged(event(local, List.of(names(2L, "GoCardless")), List.of()));
+
+        assertThat(suggest("go")).containsExactly("GoCardless", "Google", "Gorgias");
+        verify(repository, times(2)).findNamesByUserId(USER_ID);
+    }
+
+    @Test
+    @DisplayName("Should drop an index built under a generation the change does not follow")
+    void dropsUnrelatedIndex() {
+        when(repository.findNamesByUserId(USER_ID)).thenReturn(List.of(names(1L, "Google")));
+        suggest("go");
+
+        index.onApplicationChanged(event(new UserCacheGenerations.Change("older", "other"),
+                List.of(names(2L, "GoCardless")), List.of()));
+        when(repository.findNamesByUserId(USER_ID)).thenReturn(List.of(names(1L, "Google")));
+
+        assertThat(suggest("go")).containsExactly("Google");
+        verify(repository, times(2)).findNamesByUserId(USER_ID);
+    }
+
+    @Test
+    @DisplayName("Should not hold the map entry while an index loads")
+    void loadsOutsideTheMap() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        when(repository.findNamesByUserId(USER_ID)).thenAnswer(invocation -> {
+            if (loads.getAndIncrement() == 0) {
+                loading.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return List.of(names(1L, "Google"));
+        });
+        CompletableFuture<List<String>> slow = CompletableFuture.supplyAsync(() -> suggest("go"));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            assertThat(CompletableFuture.supplyAsync(() -> suggest("go")).get(1, TimeUnit.SECONDS))
+                    .containsExactly("Google");
+        } finally {
+            release.countDown();
+        }
+        assertThat(slow.get(5, TimeUnit.SECONDS)).containsExactly("Google");
+    }
+
+    private List<String> suggest(String prefix) {
+        return index.suggest(USER_ID, SuggestField.COMPANY, prefix, 10);
+    }
+
+    private JobApplicationChangedEvent event(UserCacheGenerations.Change change, List<ApplicationNames> saved,
+                                             List<Long> deleted) {
+        return new JobApplicationChangedEvent(this, USER_ID, change, saved, deleted);
+    }
+
+    private static ApplicationNames names(Long id, String company) {
+        return new ApplicationNames(id, company, "Engineer");
+    }
+}
@@ -0,0 +1,36 @@
+package com.applyflow.suggest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixIndexTest {
+
+    @Test
+    @DisplayName("Should match prefixes ignoring case, accents and extra whitespace")
+    void complete_Normalized() {
+        PrefixIndex index = PrefixIndex.of(List.of("Nestlé  SA", "Netflix", "Meta", "netflix"));
+
+        assertThat(index.complete("NESTLE s", 10)).containsExactly("Nestlé  SA");
+        assertThat(index.complete("ne", 10)).containsExactly("Nestlé  SA", "Netflix");
+        assertThat(index.complete("", 10)).containsExactly("Meta", "Nestlé  SA", "Netflix");
+        assertThat(index.complete("ne", 1)).containsExactly("Nestlé  SA");
+        assertThat(index.complete("zz", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep a name until every application using it is removed")
+    void update_CountsNames() {
+        PrefixIndex index = PrefixIndex.of(List.of("Google", "Google", "Meta"));
+
+        PrefixIndex once = index.update(List.of("google"), List.of("Stripe"));
+        assertThat(once.complete("", 10)).containsExactly("Google", "Meta", "Stripe");
+
+        PrefixIndex twice = once.update(List.of("Google"), List.of());
+        assertThat(twice.complete("", 10)).containsExactly("Meta", "Stripe");
+        assertThat(index.size()).isEqualTo(2);
+    }
+}